@@ -0,0 +1,60 @@
+package com.example.backend.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+
+	// Runs the coordinator of each fee generation job
+	@Bean(name = "feeGenerationJobExecutor")
+	public ThreadPoolTaskExecutor feeGenerationJobExecutor() {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(1);
+		executor.setMaxPoolSize(2);
+		executor.setQueueCapacity(50);
+		executor.setThreadNamePrefix("fee-job-");
+		executor.initialize();
+		return executor;
+	}
+
+	// Processes the household partitions handed out by the job coordinators
+	@Bean(name = "feeGenerationWorkerExecutor")
+	public ThreadPoolTaskExecutor feeGenerationWorkerExecutor(@Value("${feeGeneration.workers:4}") int workers) {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(workers);
+		executor.setMaxPoolSize(workers);
+		executor.setQueueCapacity(workers * 4);
+		executor.setThreadNamePrefix("fee-gen-");
+		executor.initialize();
+		return executor;
+	}
+
+	// Delivers queued emails; the dispatcher never runs more workers than the pool has threads
+	@Bean(name = "emailOutboxExecutor")
+	public ThreadPoolTaskExecutor emailOutboxExecutor(@Value("${emailOutbox.workers:2}") int workers) {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(workers);
+		executor.setMaxPoolSize(workers);
+		executor.setQueueCapacity(workers);
+		executor.setThreadNamePrefix("email-out-");
+		executor.initialize();
+		return executor;
+	}
+
+	// Runs fee reminder campaigns one at a time
+	@Bean(name = "feeReminderExecutor")
+	public ThreadPoolTaskExecutor feeReminderExecutor() {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(1);
+		executor.setMaxPoolSize(1);
+		executor.setQueueCapacity(10);
+		executor.setThreadNamePrefix("fee-reminder-");
+		executor.initialize();
+		return executor;
+	}
+}
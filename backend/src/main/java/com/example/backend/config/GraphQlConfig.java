@@ -0,0 +1,61 @@
+package com.example.backend.config;
+
+import graphql.analysis.FieldComplexityCalculator;
+import graphql.analysis.MaxQueryComplexityInstrumentation;
+import graphql.analysis.MaxQueryDepthInstrumentation;
+import graphql.schema.GraphQLTypeUtil;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.graphql.GraphQlSourceBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.support.ResourcePatternResolver;
+
+import java.io.IOException;
+
+/**
+ * Guards the GraphQL endpoint against runaway queries and caches parsed documents.
+ * Instrumentation beans are picked up by the GraphQL auto-configuration.
+ */
+@Configuration
+public class GraphQlConfig {
+
+	// Page size of connection fields when the query gives no first argument
+	public static final int DEFAULT_PAGE_SIZE = 20;
+
+	@Bean
+	public MaxQueryDepthInstrumentation maxQueryDepthInstrumentation(@Value("${graphqlQuery.maxDepth:6}") int maxDepth) {
+		return new MaxQueryDepthInstrumentation(maxDepth);
+	}
+
+	/**
+	 * Static cost of a query: every field costs 1. A connection field multiplies the cost of its selection
+	 * by the requested page size, a plain list field by {@code graphqlQuery.listFieldCost}.
+	 */
+	@Bean
+	public MaxQueryComplexityInstrumentation maxQueryComplexityInstrumentation(
+			@Value("${graphqlQuery.maxComplexity:5000}") int maxComplexity,
+			@Value("${graphqlQuery.listFieldCost:10}") int listFieldCost) {
+		FieldComplexityCalculator calculator = (environment, childComplexity) -> {
+			if (environment.getFieldDefinition().getArgument("first") != null) {
+				int first = environment.getArguments().get("first") instanceof Number number ? number.intValue() : DEFAULT_PAGE_SIZE;
+				return Math.max(first, 1) * (1 + childComplexity);
+			}
+			boolean connectionEdges = GraphQLTypeUtil.simplePrint(environment.getParentType()).endsWith("Connection");
+			if (connectionEdges || !GraphQLTypeUtil.isList(GraphQLTypeUtil.unwrapNonNull(environment.getFieldDefinition().getType()))) {
+				return 1 + childComplexity;
+			}
+			return listFieldCost * (1 + childComplexity);
+		};
+		return new MaxQueryComplexityInstrumentation(maxComplexity, calculator);
+	}
+
+	@Bean
+	public GraphQlSourceBuilderCustomizer persistedQueryCustomizer(
+			ResourcePatternResolver resourcePatternResolver,
+			@Value("${graphqlQuery.persistedQueries:classpath*:graphql/persisted/*.graphql}") String persistedQueries,
+			@Value("${graphqlQuery.documentCacheSize:500}") int documentCacheSize) throws IOException {
+		PersistedQueryDocumentProvider documentProvider = new PersistedQueryDocumentProvider(
+				resourcePatternResolver.getResources(persistedQueries), documentCacheSize);
+		return builder -> builder.configureGraphQl(graphQl -> graphQl.preparsedDocumentProvider(documentProvider));
+	}
+}
@@ -0,0 +1,115 @@
+package com.example.backend.config;
+
+import graphql.ExecutionInput;
+import graphql.GraphqlErrorBuilder;
+import graphql.execution.preparsed.PreparsedDocumentEntry;
+import graphql.execution.preparsed.PreparsedDocumentProvider;
+import graphql.execution.preparsed.persisted.PersistedQueryNotFound;
+import graphql.execution.preparsed.persisted.PersistedQuerySupport;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * Serves GraphQL documents without parsing and validating them on every request.
+ * <ul>
+ *     <li>Registered queries are looked up by the SHA-256 hash a client sends in
+ *     {@code extensions.persistedQuery.sha256Hash}, so the query text need not be sent at all.</li>
+ *     <li>Any other query is parsed and validated once and kept in a bounded LRU cache keyed by its hash.</li>
+ * </ul>
+ * Depth and complexity limits are checked at execution time, so cached documents are still subject to them.
+ */
+@Slf4j
+public class PersistedQueryDocumentProvider implements PreparsedDocumentProvider {
+
+	private final Map<String, String> registeredQueries = new HashMap<>();
+	private final Map<String, PreparsedDocumentEntry> documents;
+
+	public PersistedQueryDocumentProvider(Resource[] registeredQueryFiles, int cacheSize) {
+		for (Resource file : registeredQueryFiles) {
+			try {
+				String query = file.getContentAsString(StandardCharsets.UTF_8);
+				String hash = sha256(query);
+				registeredQueries.put(hash, query);
+				log.info("Registered persisted GraphQL query {} ({})", file.getFilename(), hash);
+			} catch (IOException e) {
+				throw new UncheckedIOException("Cannot read persisted query " + file.getDescription(), e);
+			}
+		}
+		this.documents = new LinkedHashMap<>(cacheSize, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, PreparsedDocumentEntry> eldest) {
+				return size() > cacheSize;
+			}
+		};
+	}
+
+	@Override
+	public CompletableFuture<PreparsedDocumentEntry> getDocumentAsync(ExecutionInput executionInput,
+																	   Function<ExecutionInput, PreparsedDocumentEntry> parseAndValidate) {
+		String persistedHash = getPersistedQueryHash(executionInput);
+		String query;
+		String key;
+		if (persistedHash != null && registeredQueries.containsKey(persistedHash)) {
+			query = registeredQueries.get(persistedHash);
+			key = persistedHash;
+		} else if (executionInput.getQuery() == null || executionInput.getQuery().isBlank()
+				|| PersistedQuerySupport.PERSISTED_QUERY_MARKER.equals(executionInput.getQuery())) {
+			// Hash only, and not one we know
+			PersistedQueryNotFound notFound = new PersistedQueryNotFound(persistedHash);
+			return CompletableFuture.completedFuture(new PreparsedDocumentEntry(GraphqlErrorBuilder.newError()
+					.message(notFound.getMessage())
+					.extensions(notFound.getExtensions())
+					.build()));
+		} else {
+			query = executionInput.getQuery();
+			key = sha256(query);
+		}
+
+		PreparsedDocumentEntry entry;
+		synchronized (documents) {
+			entry = documents.get(key);
+		}
+		if (entry != null) {
+			return CompletableFuture.completedFuture(entry);
+		}
+
+		String document = query;
+		entry = parseAndValidate.apply(executionInput.transform(builder -> builder.query(document)));
+		if (!entry.hasErrors()) {
+			synchronized (documents) {
+				documents.put(key, entry);
+			}
+		}
+		return CompletableFuture.completedFuture(entry);
+	}
+
+	private static String getPersistedQueryHash(ExecutionInput executionInput) {
+		Map<String, Object> extensions = executionInput.getExtensions();
+		if (extensions != null && extensions.get("persistedQuery") instanceof Map<?, ?> persistedQuery
+				&& persistedQuery.get("sha256Hash") instanceof String hash) {
+			return hash.toLowerCase();
+		}
+		return null;
+	}
+
+	private static String sha256(String text) {
+		try {
+			byte[] digest = MessageDigest.getInstance("SHA-256").digest(text.getBytes(StandardCharsets.UTF_8));
+			return HexFormat.of().formatHex(digest);
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 not available", e);
+		}
+	}
+}
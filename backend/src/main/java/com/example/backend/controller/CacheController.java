@@ -0,0 +1,28 @@
+package com.example.backend.controller;
+
+import com.example.backend.dto.response.ApiResponse;
+import com.example.backend.dto.response.CacheRegionStatsResponse;
+import com.example.backend.service.CacheStatisticsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/cache")
+@RequiredArgsConstructor
+public class CacheController {
+
+	private final CacheStatisticsService cacheStatisticsService;
+
+	@GetMapping("/regions")
+	@PreAuthorize("hasRole('ADMIN')")
+	public ResponseEntity<ApiResponse<List<CacheRegionStatsResponse>>> getRegionStats() {
+		List<CacheRegionStatsResponse> response = cacheStatisticsService.getRegionStats();
+		return ResponseEntity.ok(new ApiResponse<>(true, "Cache region statistics", response));
+	}
+}
@@ -3,6 +3,7 @@ package com.example.backend.controller;
 import com.example.backend.dto.request.DonationRequest;
 import com.example.backend.dto.response.ApiResponse;
 import com.example.backend.dto.response.DonationResponse;
+import com.example.backend.service.DonationRollupService;
 import com.example.backend.service.DonationService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -23,6 +24,7 @@ import java.util.List;
 public class DonationController {
 
 	private final DonationService donationService;
+	private final DonationRollupService donationRollupService;
 
 	@PostMapping
 	@PreAuthorize("hasAnyRole('ADMIN', 'ACCOUNTANT')")
@@ -85,4 +87,12 @@ public class DonationController {
 		donationService.deleteDonation(id);
 		return ResponseEntity.ok(new ApiResponse<>(true, "Donation deleted successfully", null));
 	}
-}
\ No newline at end of file
+
+	@PostMapping("/rollup/rebuild")
+	@PreAuthorize("hasRole('ADMIN')")
+	public ResponseEntity<ApiResponse<Integer>> rebuildDonationRollup() {
+		log.info("Rebuilding donation monthly rollup");
+		int buckets = donationRollupService.rebuild();
+		return ResponseEntity.ok(new ApiResponse<>(true, "Donation rollup rebuilt successfully", buckets));
+	}
+}
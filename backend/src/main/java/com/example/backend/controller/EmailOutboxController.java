@@ -0,0 +1,37 @@
+package com.example.backend.controller;
+
+import com.example.backend.dto.response.ApiResponse;
+import com.example.backend.model.enums.EmailStatus;
+import com.example.backend.service.EmailService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/v1/email-outbox")
+@RequiredArgsConstructor
+public class EmailOutboxController {
+
+	private final EmailService emailService;
+
+	@GetMapping("/stats")
+	@PreAuthorize("hasRole('ADMIN')")
+	public ResponseEntity<ApiResponse<Map<EmailStatus, Long>>> getStats() {
+		Map<EmailStatus, Long> response = emailService.getOutboxStats();
+		return ResponseEntity.ok(new ApiResponse<>(true, "Email outbox statistics", response));
+	}
+
+	@PostMapping("/{id}/retry")
+	@PreAuthorize("hasRole('ADMIN')")
+	public ResponseEntity<ApiResponse<Void>> retryDeadEmail(@PathVariable Long id) {
+		emailService.retryDeadEmail(id);
+		return ResponseEntity.ok(new ApiResponse<>(true, "Email queued for another attempt", null));
+	}
+}
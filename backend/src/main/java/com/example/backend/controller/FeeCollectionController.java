@@ -1,20 +1,29 @@
 package com.example.backend.controller;
 
+import com.example.backend.dto.request.ExportFormat;
 import com.example.backend.dto.request.FeeCollectionRequest;
 import com.example.backend.dto.response.ApiResponse;
 import com.example.backend.dto.response.FeeCollectionResponse;
+import com.example.backend.dto.response.FeeGenerationJobResponse;
+import com.example.backend.dto.response.FeeReminderRunResponse;
 import com.example.backend.service.FeeCollectionService;
+import com.example.backend.service.FeeGenerationJobService;
+import com.example.backend.service.FeeReminderService;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
 import java.time.YearMonth;
 import java.util.List;
 import java.util.Map;
@@ -26,6 +35,8 @@ import java.util.Map;
 public class FeeCollectionController {
 
 	private final FeeCollectionService feeCollectionService;
+	private final FeeGenerationJobService feeGenerationJobService;
+	private final FeeReminderService feeReminderService;
 
 	@PostMapping
 	@PreAuthorize("hasAnyRole('LEADER', 'SUB_LEADER', 'ACCOUNTANT')")
@@ -81,6 +92,23 @@ public class FeeCollectionController {
 		return ResponseEntity.ok(new ApiResponse<>(true, "Fee collections retrieved successfully", response));
 	}
 
+	@GetMapping("/year-month/{yearMonth}/export")
+	@PreAuthorize("hasAnyRole('ADMIN', 'ACCOUNTANT')")
+	public void exportFeeCollectionsByYearMonth(
+			@PathVariable @DateTimeFormat(pattern = "yyyy-MM") YearMonth yearMonth,
+			@RequestParam(defaultValue = "csv") String format,
+			HttpServletResponse response) throws IOException {
+		ExportFormat exportFormat = ExportFormat.parse(format);
+		log.info("Exporting fee collections for year-month: {} as {}", yearMonth, exportFormat);
+
+		response.setContentType(exportFormat.getContentType());
+		response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+				.filename("fee-collections-" + yearMonth + "." + exportFormat.getExtension())
+				.build()
+				.toString());
+		feeCollectionService.exportFeeCollectionsByYearMonth(yearMonth, exportFormat, response.getOutputStream());
+	}
+
 	@GetMapping("/year-month/{yearMonth}/paginated")
 	@PreAuthorize("hasAnyRole('USER', 'ADMIN', 'ACCOUNTANT')")
 	public ResponseEntity<ApiResponse<Page<FeeCollectionResponse>>> getFeeCollectionsByYearMonthPaginated(
@@ -129,12 +157,72 @@ public class FeeCollectionController {
 
 	@PostMapping("/generate-monthly/{yearMonth}")
 	@PreAuthorize("hasAnyRole('ADMIN', 'ACCOUNTANT')")
-	public ResponseEntity<ApiResponse<Void>> generateMonthlyFeeCollections(
+	public ResponseEntity<ApiResponse<FeeGenerationJobResponse>> generateMonthlyFeeCollections(
 			@PathVariable @DateTimeFormat(pattern = "yyyy-MM") YearMonth yearMonth) {
-		log.info("Generating monthly fee collections for all households for: {}", yearMonth);
-		feeCollectionService.generateMonthlyFeeCollectionsForAllHouseholds(yearMonth);
-		return ResponseEntity.ok(
-				new ApiResponse<>(true, "Monthly fee collections generated successfully", null));
+		log.info("Starting monthly fee collection generation job for: {}", yearMonth);
+		FeeGenerationJobResponse response = feeGenerationJobService.startMonthlyGeneration(yearMonth);
+		return ResponseEntity.status(HttpStatus.ACCEPTED)
+				.body(new ApiResponse<>(true, "Monthly fee collection generation started", response));
+	}
+
+	@GetMapping("/generation-jobs")
+	@PreAuthorize("hasAnyRole('ADMIN', 'ACCOUNTANT')")
+	public ResponseEntity<ApiResponse<Page<FeeGenerationJobResponse>>> getGenerationJobs(Pageable pageable) {
+		log.info("Fetching fee generation jobs with pagination: {}", pageable);
+		Page<FeeGenerationJobResponse> response = feeGenerationJobService.getAllJobs(pageable);
+		return ResponseEntity.ok(new ApiResponse<>(true, "Fee generation jobs retrieved successfully", response));
+	}
+
+	@GetMapping("/generation-jobs/{jobId}")
+	@PreAuthorize("hasAnyRole('ADMIN', 'ACCOUNTANT')")
+	public ResponseEntity<ApiResponse<FeeGenerationJobResponse>> getGenerationJob(@PathVariable Integer jobId) {
+		log.info("Fetching fee generation job with id: {}", jobId);
+		FeeGenerationJobResponse response = feeGenerationJobService.getJobById(jobId);
+		return ResponseEntity.ok(new ApiResponse<>(true, "Fee generation job retrieved successfully", response));
+	}
+
+	@PostMapping("/generation-jobs/{jobId}/resume")
+	@PreAuthorize("hasAnyRole('ADMIN', 'ACCOUNTANT')")
+	public ResponseEntity<ApiResponse<FeeGenerationJobResponse>> resumeGenerationJob(@PathVariable Integer jobId) {
+		log.info("Resuming fee generation job with id: {}", jobId);
+		FeeGenerationJobResponse response = feeGenerationJobService.resumeJob(jobId);
+		return ResponseEntity.status(HttpStatus.ACCEPTED)
+				.body(new ApiResponse<>(true, "Fee generation job resumed", response));
+	}
+
+	@PostMapping("/reminders/{yearMonth}")
+	@PreAuthorize("hasAnyRole('ADMIN', 'ACCOUNTANT')")
+	public ResponseEntity<ApiResponse<FeeReminderRunResponse>> sendUnpaidReminders(
+			@PathVariable @DateTimeFormat(pattern = "yyyy-MM") YearMonth yearMonth) {
+		log.info("Starting unpaid fee reminder run up to: {}", yearMonth);
+		FeeReminderRunResponse response = feeReminderService.startReminderRun(yearMonth);
+		return ResponseEntity.status(HttpStatus.ACCEPTED)
+				.body(new ApiResponse<>(true, "Unpaid fee reminder run started", response));
+	}
+
+	@GetMapping("/reminder-runs")
+	@PreAuthorize("hasAnyRole('ADMIN', 'ACCOUNTANT')")
+	public ResponseEntity<ApiResponse<Page<FeeReminderRunResponse>>> getReminderRuns(Pageable pageable) {
+		log.info("Fetching fee reminder runs with pagination: {}", pageable);
+		Page<FeeReminderRunResponse> response = feeReminderService.getAllRuns(pageable);
+		return ResponseEntity.ok(new ApiResponse<>(true, "Fee reminder runs retrieved successfully", response));
+	}
+
+	@GetMapping("/reminder-runs/{runId}")
+	@PreAuthorize("hasAnyRole('ADMIN', 'ACCOUNTANT')")
+	public ResponseEntity<ApiResponse<FeeReminderRunResponse>> getReminderRun(@PathVariable Integer runId) {
+		log.info("Fetching fee reminder run with id: {}", runId);
+		FeeReminderRunResponse response = feeReminderService.getRunById(runId);
+		return ResponseEntity.ok(new ApiResponse<>(true, "Fee reminder run retrieved successfully", response));
+	}
+
+	@PostMapping("/reminder-runs/{runId}/resume")
+	@PreAuthorize("hasAnyRole('ADMIN', 'ACCOUNTANT')")
+	public ResponseEntity<ApiResponse<FeeReminderRunResponse>> resumeReminderRun(@PathVariable Integer runId) {
+		log.info("Resuming fee reminder run with id: {}", runId);
+		FeeReminderRunResponse response = feeReminderService.resumeRun(runId);
+		return ResponseEntity.status(HttpStatus.ACCEPTED)
+				.body(new ApiResponse<>(true, "Fee reminder run resumed", response));
 	}
 
 	@GetMapping("/statistics/{yearMonth}")
@@ -3,7 +3,9 @@ package com.example.backend.controller;
 import com.example.backend.dto.request.FeeTypeRequest;
 import com.example.backend.dto.response.ApiResponse;
 import com.example.backend.dto.response.FeeTypeResponse;
+import com.example.backend.dto.response.ReferenceDataCacheStatsResponse;
 import com.example.backend.service.FeeTypeService;
+import com.example.backend.service.ReferenceDataCache;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -23,6 +25,7 @@ import java.util.List;
 public class FeeTypeController {
 
 	private final FeeTypeService feeTypeService;
+	private final ReferenceDataCache referenceDataCache;
 
 	@PostMapping
 	@PreAuthorize("hasAnyRole('LEADER', 'SUB_LEADER')")
@@ -74,4 +77,12 @@ public class FeeTypeController {
 		feeTypeService.deleteFeeType(id);
 		return ResponseEntity.ok(new ApiResponse<>(true, "Fee type deleted successfully", null));
 	}
-}
\ No newline at end of file
+
+	// Hit and miss counters of the fee type and vehicle fee price snapshots
+	@GetMapping("/cache/stats")
+	@PreAuthorize("hasRole('ADMIN')")
+	public ResponseEntity<ApiResponse<ReferenceDataCacheStatsResponse>> getReferenceCacheStats() {
+		ReferenceDataCacheStatsResponse response = referenceDataCache.getStats();
+		return ResponseEntity.ok(new ApiResponse<>(true, "Reference data cache statistics", response));
+	}
+}
@@ -1,6 +1,7 @@
 package com.example.backend.controller;
 
 import com.example.backend.dto.response.ApiResponse;
+import com.example.backend.dto.response.CursorPage;
 import com.example.backend.dto.response.HistoryRecordResponse;
 import com.example.backend.service.HistoryRecordService;
 import lombok.RequiredArgsConstructor;
@@ -11,8 +12,6 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 @RestController
 @RequestMapping("/api/v1/history")
 @RequiredArgsConstructor
@@ -31,10 +30,22 @@ public class HistoryRecordController {
 
 	@GetMapping("/entity/{entityType}/{entityId}")
 	@PreAuthorize("hasAnyRole('ADMIN', 'LEADER', 'SUB_LEADER')")
-	public ResponseEntity<ApiResponse<List<HistoryRecordResponse>>> getHistoryByEntityAndId(
-			@PathVariable String entityType, @PathVariable Integer entityId) {
+	public ResponseEntity<ApiResponse<Page<HistoryRecordResponse>>> getHistoryByEntityAndId(
+			@PathVariable String entityType, @PathVariable Integer entityId, Pageable pageable) {
 		log.info("Fetching history records for entity type: {} and id: {}", entityType, entityId);
-		List<HistoryRecordResponse> response = historyRecordService.getHistoryByEntityAndId(entityType, entityId);
+		Page<HistoryRecordResponse> response = historyRecordService.getHistoryByEntityAndId(entityType, entityId, pageable);
+		return ResponseEntity.ok(new ApiResponse<>(true, "History records retrieved successfully", response));
+	}
+
+	@GetMapping("/entity/{entityType}/{entityId}/cursor")
+	@PreAuthorize("hasAnyRole('ADMIN', 'LEADER', 'SUB_LEADER')")
+	public ResponseEntity<ApiResponse<CursorPage<HistoryRecordResponse>>> getHistoryByEntityAndIdByCursor(
+			@PathVariable String entityType,
+			@PathVariable Integer entityId,
+			@RequestParam(required = false) String cursor,
+			@RequestParam(defaultValue = "20") int size) {
+		log.info("Fetching history records for entity type: {} and id: {} after cursor: {}", entityType, entityId, cursor);
+		CursorPage<HistoryRecordResponse> response = historyRecordService.getHistoryByEntityAndIdByCursor(entityType, entityId, cursor, size);
 		return ResponseEntity.ok(new ApiResponse<>(true, "History records retrieved successfully", response));
 	}
 
@@ -46,21 +57,53 @@ public class HistoryRecordController {
 		return ResponseEntity.ok(new ApiResponse<>(true, "History records retrieved successfully", response));
 	}
 
+	@GetMapping("/cursor")
+	@PreAuthorize("hasAnyRole('ADMIN', 'LEADER', 'SUB_LEADER')")
+	public ResponseEntity<ApiResponse<CursorPage<HistoryRecordResponse>>> getHistoryRecordsByCursor(
+			@RequestParam(required = false) String cursor,
+			@RequestParam(defaultValue = "20") int size) {
+		log.info("Fetching history records after cursor: {}", cursor);
+		CursorPage<HistoryRecordResponse> response = historyRecordService.getHistoryRecordsByCursor(cursor, size);
+		return ResponseEntity.ok(new ApiResponse<>(true, "History records retrieved successfully", response));
+	}
+
+	@GetMapping("/entity-type/{entityType}/cursor")
+	@PreAuthorize("hasAnyRole('ADMIN', 'LEADER', 'SUB_LEADER')")
+	public ResponseEntity<ApiResponse<CursorPage<HistoryRecordResponse>>> getHistoryByEntityTypeByCursor(
+			@PathVariable String entityType,
+			@RequestParam(required = false) String cursor,
+			@RequestParam(defaultValue = "20") int size) {
+		log.info("Fetching history records for entity type: {} after cursor: {}", entityType, cursor);
+		CursorPage<HistoryRecordResponse> response = historyRecordService.getHistoryByEntityTypeByCursor(entityType, cursor, size);
+		return ResponseEntity.ok(new ApiResponse<>(true, "History records retrieved successfully", response));
+	}
+
+	@GetMapping("/action-type/{actionType}/cursor")
+	@PreAuthorize("hasAnyRole('ADMIN', 'LEADER', 'SUB_LEADER')")
+	public ResponseEntity<ApiResponse<CursorPage<HistoryRecordResponse>>> getHistoryByActionTypeByCursor(
+			@PathVariable String actionType,
+			@RequestParam(required = false) String cursor,
+			@RequestParam(defaultValue = "20") int size) {
+		log.info("Fetching history records for action type: {} after cursor: {}", actionType, cursor);
+		CursorPage<HistoryRecordResponse> response = historyRecordService.getHistoryByActionTypeByCursor(actionType, cursor, size);
+		return ResponseEntity.ok(new ApiResponse<>(true, "History records retrieved successfully", response));
+	}
+
 	@GetMapping("/entity-type/{entityType}")
 	@PreAuthorize("hasAnyRole('ADMIN', 'LEADER', 'SUB_LEADER')")
-	public ResponseEntity<ApiResponse<List<HistoryRecordResponse>>> getHistoryByEntityType(
-			@PathVariable String entityType) {
+	public ResponseEntity<ApiResponse<Page<HistoryRecordResponse>>> getHistoryByEntityType(
+			@PathVariable String entityType, Pageable pageable) {
 		log.info("Fetching history records for entity type: {}", entityType);
-		List<HistoryRecordResponse> response = historyRecordService.getHistoryByEntityType(entityType);
+		Page<HistoryRecordResponse> response = historyRecordService.getHistoryByEntityType(entityType, pageable);
 		return ResponseEntity.ok(new ApiResponse<>(true, "History records retrieved successfully", response));
 	}
 
 	@GetMapping("/action-type/{actionType}")
 	@PreAuthorize("hasAnyRole('ADMIN', 'LEADER', 'SUB_LEADER')")
-	public ResponseEntity<ApiResponse<List<HistoryRecordResponse>>> getHistoryByActionType(
-			@PathVariable String actionType) {
+	public ResponseEntity<ApiResponse<Page<HistoryRecordResponse>>> getHistoryByActionType(
+			@PathVariable String actionType, Pageable pageable) {
 		log.info("Fetching history records for action type: {}", actionType);
-		List<HistoryRecordResponse> response = historyRecordService.getHistoryByActionType(actionType);
+		Page<HistoryRecordResponse> response = historyRecordService.getHistoryByActionType(actionType, pageable);
 		return ResponseEntity.ok(new ApiResponse<>(true, "History records retrieved successfully", response));
 	}
 }
\ No newline at end of file
@@ -1,8 +1,10 @@
 package com.example.backend.controller;
 
+import com.example.backend.dto.projection.HouseholdInclude;
 import com.example.backend.dto.request.HouseholdRequest;
 import com.example.backend.dto.response.ApiResponse;
 import com.example.backend.dto.response.HouseholdResponse;
+import com.example.backend.dto.response.SearchIndexStatsResponse;
 import com.example.backend.service.HouseholdService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -15,6 +17,7 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/api/v1/households")
@@ -36,17 +39,21 @@ public class HouseholdController {
 
 	@GetMapping("/{id}")
 	@PreAuthorize("hasAnyRole('LEADER', 'SUB_LEADER', 'ACCOUNTANT')")
-	public ResponseEntity<ApiResponse<HouseholdResponse>> getHouseholdById(@PathVariable Integer id) {
+	public ResponseEntity<ApiResponse<HouseholdResponse>> getHouseholdById(
+			@PathVariable Integer id,
+			@RequestParam(value = "include", required = false) String include) {
 		log.info("Fetching household with id: {}", id);
-		HouseholdResponse response = householdService.getHouseholdById(id);
+		HouseholdResponse response = householdService.getHouseholdById(id, HouseholdInclude.parse(include));
 		return ResponseEntity.ok(new ApiResponse<>(true, "Household retrieved successfully", response));
 	}
 
 	@GetMapping("/code/{code}")
 	@PreAuthorize("hasAnyRole('LEADER', 'SUB_LEADER', 'ACCOUNTANT')")
-	public ResponseEntity<ApiResponse<HouseholdResponse>> getHouseholdByCode(@PathVariable String code) {
+	public ResponseEntity<ApiResponse<HouseholdResponse>> getHouseholdByCode(
+			@PathVariable String code,
+			@RequestParam(value = "include", required = false) String include) {
 		log.info("Fetching household with code: {}", code);
-		HouseholdResponse response = householdService.getHouseholdByCode(code);
+		HouseholdResponse response = householdService.getHouseholdByCode(code, HouseholdInclude.parse(include));
 		return ResponseEntity.ok(new ApiResponse<>(true, "Household retrieved successfully", response));
 	}
 
@@ -54,18 +61,15 @@ public class HouseholdController {
 	@PreAuthorize("hasAnyRole('USER', 'ADMIN')")
 	public ResponseEntity<ApiResponse<Page<HouseholdResponse>>> getAllHouseholds(
 			Pageable pageable,
-			@RequestParam(value = "keyword", required = false) String keyword) {
+			@RequestParam(value = "keyword", required = false) String keyword,
+			@RequestParam(value = "include", required = false) String include) {
 		log.info("Fetching all households with pagination: {} and keyword: {}", pageable, keyword);
+		Set<HouseholdInclude> includes = HouseholdInclude.parse(include);
 		if (keyword != null && !keyword.trim().isEmpty()) {
-			List<HouseholdResponse> searchResults = householdService.searchHouseholds(keyword);
-			// Tạo Page thủ công từ List
-			int start = (int) pageable.getOffset();
-			int end = Math.min((start + pageable.getPageSize()), searchResults.size());
-			List<HouseholdResponse> pageContent = searchResults.subList(start, end);
-			Page<HouseholdResponse> page = new org.springframework.data.domain.PageImpl<>(pageContent, pageable, searchResults.size());
+			Page<HouseholdResponse> page = householdService.searchHouseholds(keyword, pageable, includes);
 			return ResponseEntity.ok(new ApiResponse<>(true, "Households retrieved successfully", page));
 		}
-		Page<HouseholdResponse> response = householdService.getAllHouseholds(pageable);
+		Page<HouseholdResponse> response = householdService.getAllHouseholds(pageable, includes);
 		return ResponseEntity.ok(new ApiResponse<>(true, "Households retrieved successfully", response));
 	}
 
@@ -89,9 +93,25 @@ public class HouseholdController {
 	@GetMapping("/search")
 	@PreAuthorize("hasAnyRole('USER', 'ADMIN')")
 	public ResponseEntity<ApiResponse<List<HouseholdResponse>>> searchHouseholds(
-			@RequestParam String keyword) {
+			@RequestParam String keyword,
+			@RequestParam(value = "include", required = false) String include) {
 		log.info("Searching households with keyword: {}", keyword);
-		List<HouseholdResponse> response = householdService.searchHouseholds(keyword);
+		List<HouseholdResponse> response = householdService.searchHouseholds(keyword, HouseholdInclude.parse(include));
 		return ResponseEntity.ok(new ApiResponse<>(true, "Search results", response));
 	}
-}
\ No newline at end of file
+
+	@GetMapping("/search-index/stats")
+	@PreAuthorize("hasRole('ADMIN')")
+	public ResponseEntity<ApiResponse<SearchIndexStatsResponse>> getSearchIndexStats() {
+		SearchIndexStatsResponse response = householdService.getSearchIndexStats();
+		return ResponseEntity.ok(new ApiResponse<>(true, "Search index statistics", response));
+	}
+
+	@PostMapping("/search-index/rebuild")
+	@PreAuthorize("hasRole('ADMIN')")
+	public ResponseEntity<ApiResponse<SearchIndexStatsResponse>> rebuildSearchIndex() {
+		log.info("Rebuilding household search index");
+		SearchIndexStatsResponse response = householdService.rebuildSearchIndex();
+		return ResponseEntity.ok(new ApiResponse<>(true, "Search index rebuilt successfully", response));
+	}
+}
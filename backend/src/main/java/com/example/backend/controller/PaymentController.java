@@ -0,0 +1,31 @@
+package com.example.backend.controller;
+
+import com.example.backend.dto.request.BatchPaymentRequest;
+import com.example.backend.dto.response.ApiResponse;
+import com.example.backend.dto.response.BatchPaymentResponse;
+import com.example.backend.service.PaymentService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/payments")
+@RequiredArgsConstructor
+@Slf4j
+public class PaymentController {
+
+	private final PaymentService paymentService;
+
+	@PostMapping("/mark-as-paid")
+	@PreAuthorize("hasAnyRole('ADMIN', 'ACCOUNTANT')")
+	public ResponseEntity<ApiResponse<BatchPaymentResponse>> markAsPaid(@RequestBody BatchPaymentRequest request) {
+		log.info("Marking a batch of bills as paid, collected by: {}", request.getCollectedBy());
+		BatchPaymentResponse response = paymentService.markAsPaid(request);
+		return ResponseEntity.ok(new ApiResponse<>(true, "Batch payment processed", response));
+	}
+}
@@ -44,9 +44,13 @@ public class ResidentController {
 
 	@GetMapping
 	@PreAuthorize("hasAnyRole('USER', 'ADMIN', 'LEADER', 'SUB_LEADER')")
-	public ResponseEntity<ApiResponse<Page<ResidentResponse>>> getAllResidents(Pageable pageable) {
-		log.info("Fetching all residents with pagination: {}", pageable);
-		Page<ResidentResponse> response = residentService.getAllResidents(pageable);
+	public ResponseEntity<ApiResponse<Page<ResidentResponse>>> getAllResidents(
+			Pageable pageable,
+			@RequestParam(value = "keyword", required = false) String keyword) {
+		log.info("Fetching all residents with pagination: {} and keyword: {}", pageable, keyword);
+		Page<ResidentResponse> response = keyword != null && !keyword.isBlank()
+				? residentService.searchResidents(keyword, pageable)
+				: residentService.getAllResidents(pageable);
 		return ResponseEntity.ok(new ApiResponse<>(true, "Residents retrieved successfully", response));
 	}
 
@@ -78,10 +82,10 @@ public class ResidentController {
 
 	@GetMapping("/search")
 	@PreAuthorize("hasAnyRole('USER', 'ADMIN', 'LEADER', 'SUB_LEADER')")
-	public ResponseEntity<ApiResponse<List<ResidentResponse>>> searchResidents(
-			@RequestParam String keyword) {
+	public ResponseEntity<ApiResponse<Page<ResidentResponse>>> searchResidents(
+			@RequestParam String keyword, Pageable pageable) {
 		log.info("Searching residents with keyword: {}", keyword);
-		List<ResidentResponse> response = residentService.searchResidents(keyword);
+		Page<ResidentResponse> response = residentService.searchResidents(keyword, pageable);
 		return ResponseEntity.ok(new ApiResponse<>(true, "Search results", response));
 	}
 }
\ No newline at end of file
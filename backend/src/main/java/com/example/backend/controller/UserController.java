@@ -90,7 +90,7 @@ public class UserController {
 				request.getText(),
 				request.isHtml()
 		);
-		return ResponseEntity.ok(new ApiResponse<>(true, "Email sent successfully", null));
+		return ResponseEntity.ok(new ApiResponse<>(true, "Email queued for delivery", null));
 	}
 
 	@PostMapping
@@ -2,6 +2,7 @@ package com.example.backend.controller;
 
 import com.example.backend.dto.request.UtilityBillRequest;
 import com.example.backend.dto.response.ApiResponse;
+import com.example.backend.dto.response.UtilityBillImportResponse;
 import com.example.backend.dto.response.UtilityBillResponse;
 import com.example.backend.service.UtilityBillService;
 import jakarta.validation.Valid;
@@ -10,10 +11,15 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 
 @RestController
@@ -29,6 +35,17 @@ public class UtilityBillController {
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @PreAuthorize("hasAnyRole('ADMIN', 'ACCOUNTANT')")
+    public ResponseEntity<ApiResponse<UtilityBillImportResponse>> importUtilityBills(
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(required = false) String monthYear) throws IOException {
+        try (InputStream csv = file.getInputStream()) {
+            UtilityBillImportResponse response = utilityBillService.importUtilityBills(csv, monthYear);
+            return ResponseEntity.ok(ApiResponse.success("Utility bill import finished", response));
+        }
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<ApiResponse<UtilityBillResponse>> updateUtilityBill(
             @PathVariable Integer id,
@@ -4,6 +4,7 @@ import com.example.backend.model.VehicleFeeConfig;
 import com.example.backend.repository.VehicleFeeConfigRepository;
 import com.example.backend.dto.request.VehicleFeeConfigRequest;
 import com.example.backend.dto.response.VehicleFeeConfigResponse;
+import com.example.backend.service.ReferenceDataCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
@@ -16,6 +17,7 @@ import java.util.List;
 @RequiredArgsConstructor
 public class VehicleFeeConfigController {
     private final VehicleFeeConfigRepository configRepo;
+    private final ReferenceDataCache referenceDataCache;
 
     @GetMapping
     public List<VehicleFeeConfigResponse> getAll() {
@@ -30,6 +32,7 @@ public class VehicleFeeConfigController {
                 .price(req.getPrice())
                 .build();
         VehicleFeeConfig saved = configRepo.save(config);
+        referenceDataCache.invalidateVehicleFeeConfigs();
         return ResponseEntity.ok(toResponse(saved));
     }
 
@@ -40,12 +43,14 @@ public class VehicleFeeConfigController {
         config.setTicketType(req.getTicketType());
         config.setPrice(req.getPrice());
         VehicleFeeConfig saved = configRepo.save(config);
+        referenceDataCache.invalidateVehicleFeeConfigs();
         return ResponseEntity.ok(toResponse(saved));
     }
 
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> delete(@PathVariable Integer id) {
         configRepo.deleteById(id);
+        referenceDataCache.invalidateVehicleFeeConfigs();
         return ResponseEntity.noContent().build();
     }
 
@@ -1,4 +1,101 @@
 package com.example.backend.controller.graphql;
 
+import com.example.backend.config.GraphQlConfig;
+import com.example.backend.dto.response.DonationCampaignResponse;
+import com.example.backend.dto.response.DonationResponse;
+import com.example.backend.dto.response.HouseholdResponse;
+import com.example.backend.dto.stats.DonationCampaignStats;
+import com.example.backend.dto.stats.DonationTotalStats;
+import com.example.backend.dto.stats.HouseholdDonationStats;
+import com.example.backend.service.DonationCampaignService;
+import com.example.backend.service.DonationService;
+import com.example.backend.service.HouseholdService;
+import com.example.backend.service.StatsService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.graphql.data.method.annotation.BatchMapping;
+import org.springframework.graphql.data.method.annotation.QueryMapping;
+import org.springframework.graphql.data.query.ScrollSubrange;
+import org.springframework.stereotype.Controller;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Donation queries and the nested {@code householdInfo}, {@code campaignInfo} and {@code DonationCampaign.donations}
+ * fields, each resolved through a DataLoader so a whole result set costs one query per selected field.
+ */
+@Controller
+@RequiredArgsConstructor
+@Slf4j
 public class DonationGraphQLController {
+
+	private final StatsService statsService;
+	private final DonationService donationService;
+	private final DonationCampaignService donationCampaignService;
+	private final HouseholdService householdService;
+
+	@QueryMapping
+	public Window<DonationResponse> getDonationsByHousehold(@Argument Integer householdId, ScrollSubrange subrange) {
+		log.info("GraphQL: Fetching donations of household: {}", householdId);
+		return donationService.getDonationsByHousehold(householdId,
+				subrange.position().orElse(ScrollPosition.keyset()), subrange.count().orElse(GraphQlConfig.DEFAULT_PAGE_SIZE));
+	}
+
+	@QueryMapping
+	public Window<DonationResponse> getDonationsByCampaign(@Argument Integer campaignId, ScrollSubrange subrange) {
+		log.info("GraphQL: Fetching donations of campaign: {}", campaignId);
+		return donationService.getDonationsByCampaign(campaignId,
+				subrange.position().orElse(ScrollPosition.keyset()), subrange.count().orElse(GraphQlConfig.DEFAULT_PAGE_SIZE));
+	}
+
+	@QueryMapping
+	public HouseholdDonationStats getHouseholdDonationStatsByMonth(@Argument int month, @Argument int year) {
+		log.info("GraphQL: Fetching household donation stats for {}/{}", month, year);
+		return statsService.getHouseholdDonationStatsByMonth(month, year);
+	}
+
+	@QueryMapping
+	public DonationTotalStats getDonationTotalByMonth(@Argument int month, @Argument int year) {
+		log.info("GraphQL: Fetching donation totals for {}/{}", month, year);
+		return statsService.getDonationTotalByMonth(month, year);
+	}
+
+	@QueryMapping
+	public List<DonationCampaignStats> getDonationStatsByType(@Argument String startDate, @Argument String endDate) {
+		log.info("GraphQL: Fetching donation stats by campaign from {} to {}", startDate, endDate);
+		return statsService.getDonationStatsByType(LocalDate.parse(startDate), LocalDate.parse(endDate));
+	}
+
+	@BatchMapping(typeName = "Donation")
+	public List<HouseholdResponse> householdInfo(List<DonationResponse> donations) {
+		Map<Integer, HouseholdResponse> households = householdService.getHouseholdsByIds(
+				donations.stream().map(DonationResponse::getHouseholdId).collect(Collectors.toSet()));
+		return donations.stream()
+				.map(donation -> households.get(donation.getHouseholdId()))
+				.collect(Collectors.toList());
+	}
+
+	@BatchMapping(typeName = "Donation")
+	public List<DonationCampaignResponse> campaignInfo(List<DonationResponse> donations) {
+		Map<Integer, DonationCampaignResponse> campaigns = donationCampaignService.getDonationCampaignsByIds(
+				donations.stream().map(DonationResponse::getDonationCampaignId).collect(Collectors.toSet()));
+		return donations.stream()
+				.map(donation -> campaigns.get(donation.getDonationCampaignId()))
+				.collect(Collectors.toList());
+	}
+
+	@BatchMapping(typeName = "DonationCampaign")
+	public List<List<DonationResponse>> donations(List<DonationCampaignResponse> campaigns) {
+		Map<Integer, List<DonationResponse>> donations = donationService.getDonationsByCampaigns(
+				campaigns.stream().map(DonationCampaignResponse::getId).collect(Collectors.toSet()));
+		return campaigns.stream()
+				.map(campaign -> donations.getOrDefault(campaign.getId(), List.of()))
+				.collect(Collectors.toList());
+	}
 }
@@ -1,37 +1,77 @@
 package com.example.backend.controller.graphql;
 
+import com.example.backend.config.GraphQlConfig;
+import com.example.backend.dto.projection.HouseholdInclude;
+import com.example.backend.dto.response.DonationResponse;
 import com.example.backend.dto.response.HouseholdResponse;
+import com.example.backend.dto.response.ResidentResponse;
+import com.example.backend.service.HouseholdBatchLoader;
 import com.example.backend.service.HouseholdService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.graphql.data.method.annotation.BatchMapping;
 import org.springframework.graphql.data.method.annotation.QueryMapping;
+import org.springframework.graphql.data.query.ScrollSubrange;
 import org.springframework.stereotype.Controller;
 
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
+/**
+ * Household queries return the households alone; {@code residents} and {@code donations} are
+ * resolved only when selected, batched through a DataLoader into one query per field per request.
+ */
 @Controller
 @RequiredArgsConstructor
 @Slf4j
 public class HouseholdGraphQLController {
 
 	private final HouseholdService householdService;
+	private final HouseholdBatchLoader householdBatchLoader;
 
 	@QueryMapping
-	public List<HouseholdResponse> searchHouseholds(@Argument String keyword) {
+	public Window<HouseholdResponse> searchHouseholds(@Argument String keyword, ScrollSubrange subrange) {
 		log.info("GraphQL: Searching households with keyword: {}", keyword);
-		return householdService.searchHouseholds(keyword);
+		return householdService.searchHouseholds(keyword,
+				subrange.position().orElse(ScrollPosition.offset()), subrange.count().orElse(GraphQlConfig.DEFAULT_PAGE_SIZE));
 	}
 
 	@QueryMapping
 	public HouseholdResponse getHouseholdById(@Argument Integer id) {
 		log.info("GraphQL: Fetching household with id: {}", id);
-		return householdService.getHouseholdById(id);
+		return householdService.getHouseholdById(id, HouseholdInclude.NONE);
 	}
 
 	@QueryMapping
 	public HouseholdResponse getHouseholdByCode(@Argument String code) {
 		log.info("GraphQL: Fetching household with code: {}", code);
-		return householdService.getHouseholdByCode(code);
+		return householdService.getHouseholdByCode(code, HouseholdInclude.NONE);
 	}
-}
\ No newline at end of file
+
+	@BatchMapping(typeName = "Household")
+	public List<List<ResidentResponse>> residents(List<HouseholdResponse> households) {
+		Map<Integer, List<ResidentResponse>> residents = householdBatchLoader.loadResidents(ids(households));
+		return households.stream()
+				.map(household -> residents.getOrDefault(household.getId(), List.of()))
+				.collect(Collectors.toList());
+	}
+
+	@BatchMapping(typeName = "Household")
+	public List<List<DonationResponse>> donations(List<HouseholdResponse> households) {
+		Map<Integer, List<DonationResponse>> donations = householdBatchLoader.loadDonations(ids(households));
+		return households.stream()
+				.map(household -> donations.getOrDefault(household.getId(), List.of()))
+				.collect(Collectors.toList());
+	}
+
+	private static List<Integer> ids(List<HouseholdResponse> households) {
+		return households.stream()
+				.map(HouseholdResponse::getId)
+				.distinct()
+				.collect(Collectors.toList());
+	}
+}
@@ -0,0 +1,7 @@
+package com.example.backend.dto.projection;
+
+public interface CampaignAmountView {
+	Integer getCampaignId();
+	Double getTotalAmount();
+	Long getDonationCount();
+}
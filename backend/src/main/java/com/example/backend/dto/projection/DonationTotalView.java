@@ -0,0 +1,8 @@
+package com.example.backend.dto.projection;
+
+public interface DonationTotalView {
+	Long getDonationCount();
+	Double getTotalAmount();
+	Double getHighestDonation();
+	Double getLowestDonation();
+}
@@ -0,0 +1,6 @@
+package com.example.backend.dto.projection;
+
+public interface HouseholdCodeView {
+	Integer getId();
+	String getHouseholdCode();
+}
@@ -0,0 +1,58 @@
+package com.example.backend.dto.projection;
+
+import com.example.backend.exception.BadRequestException;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Associations that can be requested on household endpoints through {@code include=}.
+ * Associations that are not requested are neither queried nor serialized.
+ */
+public enum HouseholdInclude {
+	MEMBERS("members"),
+	DONATIONS("donations"),
+	FEE_COLLECTIONS("feeCollections"),
+	POPULATION_CHANGES("populationChanges");
+
+	public static final Set<HouseholdInclude> ALL = Collections.unmodifiableSet(EnumSet.allOf(HouseholdInclude.class));
+	public static final Set<HouseholdInclude> NONE = Collections.unmodifiableSet(EnumSet.noneOf(HouseholdInclude.class));
+
+	private final String fieldName;
+
+	HouseholdInclude(String fieldName) {
+		this.fieldName = fieldName;
+	}
+
+	public String getFieldName() {
+		return fieldName;
+	}
+
+	/**
+	 * Parses a comma separated {@code include} parameter.
+	 * A missing parameter keeps the full response; an empty one or {@code none} selects no association.
+	 */
+	public static Set<HouseholdInclude> parse(String include) {
+		if (include == null) {
+			return ALL;
+		}
+
+		Set<HouseholdInclude> includes = EnumSet.noneOf(HouseholdInclude.class);
+		for (String token : include.split(",")) {
+			String fieldName = token.trim();
+			if (fieldName.isEmpty() || fieldName.equalsIgnoreCase("none")) {
+				continue;
+			}
+			if (fieldName.equalsIgnoreCase("all")) {
+				return ALL;
+			}
+			includes.add(Arrays.stream(values())
+					.filter(value -> value.fieldName.equalsIgnoreCase(fieldName))
+					.findFirst()
+					.orElseThrow(() -> new BadRequestException("Unknown include: " + fieldName)));
+		}
+		return includes;
+	}
+}
@@ -0,0 +1,16 @@
+package com.example.backend.dto.projection;
+
+import java.time.LocalDateTime;
+
+public interface HouseholdSummaryView {
+	Integer getId();
+	String getHouseholdCode();
+	String getApartmentNumber();
+	Double getAreaM2();
+	String getAddress();
+	String getOwnerName();
+	String getPhoneNumber();
+	String getContactEmail();
+	LocalDateTime getRegistrationDate();
+	LocalDateTime getCreatedAt();
+}
@@ -0,0 +1,7 @@
+package com.example.backend.dto.projection;
+
+public interface ResidentNameView {
+	Integer getId();
+	Integer getHouseholdId();
+	String getFullName();
+}
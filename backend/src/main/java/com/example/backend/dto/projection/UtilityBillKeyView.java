@@ -0,0 +1,9 @@
+package com.example.backend.dto.projection;
+
+import com.example.backend.model.enums.UtilityType;
+
+public interface UtilityBillKeyView {
+    Integer getHouseholdId();
+    UtilityType getType();
+    String getMonthYear();
+}
@@ -0,0 +1,24 @@
+package com.example.backend.dto.request;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.experimental.FieldDefaults;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class BatchPaymentRequest {
+	List<Integer> feeCollectionIds;
+	List<Integer> utilityBillIds;
+	List<Integer> vehicleFeeIds;
+
+	// Defaults to the current user
+	String collectedBy;
+}
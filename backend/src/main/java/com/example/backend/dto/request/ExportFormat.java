@@ -0,0 +1,36 @@
+package com.example.backend.dto.request;
+
+import com.example.backend.exception.BadRequestException;
+
+import java.util.Arrays;
+
+/**
+ * File formats offered by the export endpoints through {@code format=}.
+ */
+public enum ExportFormat {
+	CSV("csv", "text/csv; charset=UTF-8"),
+	XLSX("xlsx", "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet");
+
+	private final String extension;
+	private final String contentType;
+
+	ExportFormat(String extension, String contentType) {
+		this.extension = extension;
+		this.contentType = contentType;
+	}
+
+	public String getExtension() {
+		return extension;
+	}
+
+	public String getContentType() {
+		return contentType;
+	}
+
+	public static ExportFormat parse(String format) {
+		return Arrays.stream(values())
+				.filter(value -> value.extension.equalsIgnoreCase(format.trim()))
+				.findFirst()
+				.orElseThrow(() -> new BadRequestException("Unknown export format: " + format));
+	}
+}
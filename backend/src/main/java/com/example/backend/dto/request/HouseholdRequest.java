@@ -1,5 +1,6 @@
 package com.example.backend.dto.request;
 
+import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
@@ -33,4 +34,7 @@ public class HouseholdRequest {
 
 	@NotBlank(message = "Phone number cannot be empty")
 	String phoneNumber;
+
+	@Email(message = "Contact email must be a valid email address")
+	String contactEmail;
 }
\ No newline at end of file
@@ -0,0 +1,46 @@
+package com.example.backend.dto.response;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.experimental.FieldDefaults;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class BatchPaymentResponse {
+	LocalDate paidDate;
+	String collectedBy;
+	int paidCount;
+	int alreadyPaidCount;
+	int notFoundCount;
+	List<Outcome> results;
+
+	public enum BillKind {
+		FEE_COLLECTION,
+		UTILITY_BILL,
+		VEHICLE_FEE
+	}
+
+	public enum Status {
+		PAID,
+		ALREADY_PAID,
+		NOT_FOUND
+	}
+
+	@Data
+	@AllArgsConstructor
+	@FieldDefaults(level = AccessLevel.PRIVATE)
+	public static class Outcome {
+		BillKind kind;
+		Integer id;
+		Status status;
+	}
+}
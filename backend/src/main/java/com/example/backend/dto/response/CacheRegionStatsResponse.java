@@ -0,0 +1,23 @@
+package com.example.backend.dto.response;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.experimental.FieldDefaults;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class CacheRegionStatsResponse {
+	String region;
+	long hitCount;
+	long missCount;
+	long putCount;
+	// -1 when the cache provider does not report it
+	long elementCountInMemory;
+	double hitRatio;
+}
@@ -0,0 +1,37 @@
+package com.example.backend.dto.response;
+
+import com.example.backend.model.enums.JobStatus;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.experimental.FieldDefaults;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class FeeGenerationJobResponse {
+	Integer id;
+	YearMonth yearMonth;
+	JobStatus status;
+	Integer partitionSize;
+	Long totalHouseholds;
+	Long processedHouseholds;
+	Long generatedCount;
+	Double progressPercentage;
+	Integer lastHouseholdId;
+	String errorMessage;
+	String createdBy;
+	LocalDateTime createdAt;
+	LocalDateTime startedAt;
+	LocalDateTime finishedAt;
+	// From the first start to the end, or to now while the job runs
+	Long elapsedMs;
+	Double rowsPerSecond;
+}
@@ -0,0 +1,32 @@
+package com.example.backend.dto.response;
+
+import com.example.backend.model.enums.JobStatus;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.experimental.FieldDefaults;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class FeeReminderRunResponse {
+	Integer id;
+	YearMonth yearMonth;
+	JobStatus status;
+	Long processedHouseholds;
+	Long queuedCount;
+	Long skippedCount;
+	Integer lastHouseholdId;
+	String errorMessage;
+	String createdBy;
+	LocalDateTime createdAt;
+	LocalDateTime startedAt;
+	LocalDateTime finishedAt;
+}
@@ -1,5 +1,6 @@
 package com.example.backend.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -23,13 +24,18 @@ public class HouseholdResponse {
 	String address;
 	String ownerName;
 	String phoneNumber;
+	String contactEmail;
 	LocalDateTime registrationDate;
 	Integer residentCount;
 	LocalDateTime createdAt;
 	
-	// Additional fields for detailed information
+	// Additional fields for detailed information, left out when not requested through include=
+	@JsonInclude(JsonInclude.Include.NON_NULL)
 	List<ResidentResponse> members;
+	@JsonInclude(JsonInclude.Include.NON_NULL)
 	List<DonationResponse> donations;
+	@JsonInclude(JsonInclude.Include.NON_NULL)
 	List<FeeCollectionResponse> feeCollections;
+	@JsonInclude(JsonInclude.Include.NON_NULL)
 	List<PopulationChangeResponse> populationChanges;
 }
\ No newline at end of file
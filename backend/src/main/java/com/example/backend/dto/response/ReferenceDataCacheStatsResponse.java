@@ -0,0 +1,26 @@
+package com.example.backend.dto.response;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.experimental.FieldDefaults;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class ReferenceDataCacheStatsResponse {
+	int feeTypeCount;
+	long feeTypeHits;
+	long feeTypeMisses;
+	LocalDateTime feeTypesLoadedAt;
+	int vehicleFeeConfigCount;
+	long vehicleFeeConfigHits;
+	long vehicleFeeConfigMisses;
+	LocalDateTime vehicleFeeConfigsLoadedAt;
+}
@@ -0,0 +1,26 @@
+package com.example.backend.dto.response;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.experimental.FieldDefaults;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class SearchIndexStatsResponse {
+	boolean ready;
+	int householdCount;
+	int residentCount;
+	int trigramCount;
+	long postingCount;
+	long estimatedMemoryBytes;
+	long lastRebuildMs;
+	LocalDateTime lastRebuildAt;
+}
@@ -0,0 +1,26 @@
+package com.example.backend.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class UtilityBillImportResponse {
+    private long totalRows;
+    private long importedCount;
+    private long errorCount;
+    // Only the first errors are listed; errorCount has the full number
+    private boolean errorsTruncated;
+    private List<RowError> errors;
+
+    @Data
+    @AllArgsConstructor
+    public static class RowError {
+        private long line;
+        private String householdCode;
+        private String message;
+    }
+}
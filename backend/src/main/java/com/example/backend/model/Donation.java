@@ -9,7 +9,10 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "donations")
+@Table(name = "donations", indexes = {
+		@Index(name = "idx_donations_donation_date", columnList = "donation_date, household_id, amount"),
+		@Index(name = "idx_donations_household_campaign", columnList = "household_id, donation_campaign_id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -3,6 +3,8 @@ package com.example.backend.model;
 import jakarta.persistence.*;
 import lombok.*;
 import lombok.experimental.FieldDefaults;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 
 import java.time.LocalDate;
@@ -10,6 +12,8 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "donation-campaigns")
 @Table(name = "donation_campaigns")
 @Data
 @NoArgsConstructor
@@ -34,6 +38,12 @@ public class DonationCampaign {
 
 	Double targetAmount;
 
+	// Maintained by the donation service under a row lock on the campaign
+	Double totalDonated;
+
+	// Distinct households that donated to the campaign
+	Integer donorCount;
+
 	@OneToMany(mappedBy = "donationCampaign", cascade = CascadeType.ALL)
 	List<Donation> donations;
 
@@ -0,0 +1,43 @@
+package com.example.backend.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+/**
+ * Donation totals per (year, month, campaign), kept current by the donation service
+ * so statistics read one row per month instead of every donation.
+ */
+@Entity
+@Table(name = "donation_monthly_rollup")
+@IdClass(DonationMonthlyRollupId.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class DonationMonthlyRollup {
+	@Id
+	@Column(name = "year")
+	Integer year;
+
+	@Id
+	@Column(name = "month")
+	Integer month;
+
+	@Id
+	@Column(name = "donation_campaign_id")
+	Integer campaignId;
+
+	@Column(nullable = false)
+	Double totalAmount;
+
+	@Column(nullable = false)
+	Long donationCount;
+
+	@Column(nullable = false)
+	Double minAmount;
+
+	@Column(nullable = false)
+	Double maxAmount;
+}
@@ -0,0 +1,16 @@
+package com.example.backend.model;
+
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+import java.io.Serializable;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class DonationMonthlyRollupId implements Serializable {
+	Integer year;
+	Integer month;
+	Integer campaignId;
+}
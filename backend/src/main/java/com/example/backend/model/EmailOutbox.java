@@ -0,0 +1,58 @@
+package com.example.backend.model;
+
+import com.example.backend.model.enums.EmailStatus;
+import jakarta.persistence.*;
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "email_outbox", indexes = {
+		@Index(name = "idx_email_outbox_status_next_attempt", columnList = "status, next_attempt_at")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class EmailOutbox {
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	Long id;
+
+	@Column(nullable = false)
+	String recipient;
+
+	@Column(nullable = false)
+	String subject;
+
+	@Lob
+	@Column(nullable = false, columnDefinition = "MEDIUMTEXT")
+	String body;
+
+	@Column(nullable = false)
+	boolean html;
+
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false, length = 16)
+	EmailStatus status;
+
+	@Column(nullable = false)
+	Integer attempts;
+
+	@Column(name = "next_attempt_at", nullable = false)
+	LocalDateTime nextAttemptAt;
+
+	// A SENDING row whose lease has run out belongs to a dispatcher that died mid-batch
+	LocalDateTime lockedUntil;
+
+	@Column(length = 1000)
+	String lastError;
+
+	@CreationTimestamp
+	LocalDateTime createdAt;
+
+	LocalDateTime sentAt;
+}
@@ -0,0 +1,62 @@
+package com.example.backend.model;
+
+import com.example.backend.model.enums.JobStatus;
+import jakarta.persistence.*;
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+
+@Entity
+@Table(name = "fee_generation_jobs", indexes = {
+		@Index(name = "idx_fee_generation_jobs_status", columnList = "status")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class FeeGenerationJob {
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	Integer id;
+
+	@Column(name = "month_year", nullable = false, length = 7)
+	YearMonth yearMonth;
+
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false)
+	JobStatus status;
+
+	@Column(nullable = false)
+	Integer partitionSize;
+
+	Long totalHouseholds;
+
+	@Column(nullable = false)
+	Long processedHouseholds;
+
+	@Column(nullable = false)
+	Long generatedCount;
+
+	// Checkpoint: every household with an id up to this one has been processed
+	Integer lastHouseholdId;
+
+	@Column(length = 1000)
+	String errorMessage;
+
+	String createdBy;
+
+	@CreationTimestamp
+	LocalDateTime createdAt;
+
+	@UpdateTimestamp
+	LocalDateTime updatedAt;
+
+	LocalDateTime startedAt;
+
+	LocalDateTime finishedAt;
+}
@@ -0,0 +1,62 @@
+package com.example.backend.model;
+
+import com.example.backend.model.enums.JobStatus;
+import jakarta.persistence.*;
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+
+@Entity
+@Table(name = "fee_reminder_runs", indexes = {
+		@Index(name = "idx_fee_reminder_runs_status", columnList = "status")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class FeeReminderRun {
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	Integer id;
+
+	// Unpaid items of this month and every month before it are included
+	@Column(name = "month_year", nullable = false, length = 7)
+	YearMonth yearMonth;
+
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false)
+	JobStatus status;
+
+	@Column(nullable = false)
+	Long processedHouseholds;
+
+	@Column(nullable = false)
+	Long queuedCount;
+
+	// Households with unpaid items but no contact email
+	@Column(nullable = false)
+	Long skippedCount;
+
+	// Checkpoint: reminders of every household with an id up to this one are queued
+	Integer lastHouseholdId;
+
+	@Column(length = 1000)
+	String errorMessage;
+
+	String createdBy;
+
+	@CreationTimestamp
+	LocalDateTime createdAt;
+
+	@UpdateTimestamp
+	LocalDateTime updatedAt;
+
+	LocalDateTime startedAt;
+
+	LocalDateTime finishedAt;
+}
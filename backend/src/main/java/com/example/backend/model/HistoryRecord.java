@@ -8,7 +8,13 @@ import org.hibernate.annotations.CreationTimestamp;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "history_records")
+@Table(name = "history_records", indexes = {
+		// Keyset pagination on (timestamp, id), optionally filtered by entity or action type
+		@Index(name = "idx_history_records_timestamp_id", columnList = "timestamp, id"),
+		@Index(name = "idx_history_records_entity_type_timestamp_id", columnList = "entity_type, timestamp, id"),
+		@Index(name = "idx_history_records_action_type_timestamp_id", columnList = "action_type, timestamp, id"),
+		@Index(name = "idx_history_records_entity", columnList = "entity_type, entity_id, timestamp")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
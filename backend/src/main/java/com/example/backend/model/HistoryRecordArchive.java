@@ -0,0 +1,40 @@
+package com.example.backend.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+import java.time.LocalDateTime;
+
+/**
+ * History records moved out of {@code history_records} once they fall outside the retention window.
+ * Rows keep the id they had in the live table.
+ */
+@Entity
+@Table(name = "history_records_archive", indexes = {
+		@Index(name = "idx_history_archive_timestamp_id", columnList = "timestamp, id"),
+		@Index(name = "idx_history_archive_entity_type_timestamp_id", columnList = "entity_type, timestamp, id"),
+		@Index(name = "idx_history_archive_action_type_timestamp_id", columnList = "action_type, timestamp, id"),
+		@Index(name = "idx_history_archive_entity", columnList = "entity_type, entity_id, timestamp")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class HistoryRecordArchive {
+	@Id
+	Integer id;
+
+	@Column(nullable = false)
+	String entityType;
+
+	@Column(nullable = false)
+	Integer entityId;
+
+	@Column(nullable = false)
+	String actionType;
+
+	@Column(nullable = false)
+	LocalDateTime timestamp;
+}
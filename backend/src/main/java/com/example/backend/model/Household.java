@@ -1,9 +1,12 @@
 
 package com.example.backend.model;
 
+import com.example.backend.model.listener.SearchIndexEntityListener;
 import jakarta.persistence.*;
 import lombok.*;
 import lombok.experimental.FieldDefaults;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 
 import java.time.LocalDateTime;
@@ -11,6 +14,9 @@ import java.util.Arrays;
 import java.util.List;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "households")
+@EntityListeners(SearchIndexEntityListener.class)
 @Table(name = "households")
 @Data
 @NoArgsConstructor
@@ -40,6 +46,9 @@ public class Household {
 	@Column(nullable = false)
 	String phoneNumber;
 
+	// Where fee reminders are sent; households without one are skipped
+	String contactEmail;
+
 	@Column(nullable = false)
 	LocalDateTime registrationDate;
 
@@ -2,17 +2,24 @@ package com.example.backend.model;
 
 import com.example.backend.model.enums.Gender;
 import com.example.backend.model.enums.RelationshipType;
+import com.example.backend.model.listener.SearchIndexEntityListener;
 import jakarta.persistence.*;
+import com.example.backend.utils.TextNormalizer;
 import lombok.*;
 import lombok.experimental.FieldDefaults;
 import org.hibernate.annotations.CreationTimestamp;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 @Entity
-@Table(name = "residents")
+@EntityListeners(SearchIndexEntityListener.class)
+@Table(name = "residents", indexes = {
+		@Index(name = "idx_residents_search_name", columnList = "search_name")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -30,6 +37,17 @@ public class Resident {
 	@Column(nullable = false)
 	String fullName;
 
+	// Accent-folded, lower case full name used by search, derived from fullName on every write
+	String searchName;
+
+	// Every word-start suffix of searchName ("nguyen van duc", "van duc", "duc"), so a prefix
+	// match on the indexed token column finds a keyword at the start of any word of the name
+	@ElementCollection
+	@CollectionTable(name = "resident_search_tokens", joinColumns = @JoinColumn(name = "resident_id"),
+			indexes = @Index(name = "idx_resident_search_tokens_token", columnList = "token, resident_id"))
+	@Column(name = "token", nullable = false)
+	Set<String> searchTokens;
+
 	@Column(nullable = false)
 	LocalDate dateOfBirth;
 
@@ -54,4 +72,34 @@ public class Resident {
 
 	@CreationTimestamp
 	LocalDateTime createdAt;
+
+	public void setFullName(String fullName) {
+		this.fullName = fullName;
+		refreshSearchTokens();
+	}
+
+	/**
+	 * Brings the search tokens in line with the full name. The collection is changed in place
+	 * so Hibernate only writes the tokens that were added or removed.
+	 */
+	public void refreshSearchTokens() {
+		Set<String> tokens = TextNormalizer.wordSuffixes(TextNormalizer.fold(fullName));
+		if (searchTokens == null) {
+			searchTokens = new HashSet<>(tokens);
+		} else {
+			searchTokens.retainAll(tokens);
+			searchTokens.addAll(tokens);
+		}
+	}
+
+	@PrePersist
+	void onCreate() {
+		updateSearchName();
+		refreshSearchTokens();
+	}
+
+	@PreUpdate
+	void updateSearchName() {
+		searchName = TextNormalizer.fold(fullName);
+	}
 }
\ No newline at end of file
@@ -10,7 +10,9 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "utility_bills")
+@Table(name = "utility_bills", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_utility_bills_household_type_month", columnNames = {"household_id", "type", "month_year"})
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -5,8 +5,12 @@ import com.example.backend.model.enums.VehicleType;
 import jakarta.persistence.*;
 import lombok.*;
 import lombok.experimental.FieldDefaults;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "vehicle-fee-configs")
 @Table(name = "vehicle_fee_configs", uniqueConstraints = {
     @UniqueConstraint(columnNames = {"vehicleType", "ticketType"})
 })
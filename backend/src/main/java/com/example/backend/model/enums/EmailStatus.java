@@ -0,0 +1,8 @@
+package com.example.backend.model.enums;
+
+public enum EmailStatus {
+	PENDING,
+	SENDING,
+	SENT,
+	DEAD
+}
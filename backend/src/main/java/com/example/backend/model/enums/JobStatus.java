@@ -0,0 +1,8 @@
+package com.example.backend.model.enums;
+
+public enum JobStatus {
+	PENDING,
+	RUNNING,
+	COMPLETED,
+	FAILED
+}
@@ -0,0 +1,78 @@
+package com.example.backend.model.listener;
+
+import com.example.backend.model.Household;
+import com.example.backend.model.Resident;
+import com.example.backend.service.HouseholdSearchIndex;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.function.Consumer;
+
+/**
+ * Keeps the household search index in step with household and resident writes. The indexed
+ * values are captured when the entity is flushed, but only applied once the transaction commits,
+ * so rolled back writes never reach the index.
+ */
+@Component
+public class SearchIndexEntityListener {
+
+	// Resolved lazily: the index depends on repositories, which are not ready while Hibernate builds its listeners
+	private final ObjectProvider<HouseholdSearchIndex> searchIndex;
+
+	public SearchIndexEntityListener(ObjectProvider<HouseholdSearchIndex> searchIndex) {
+		this.searchIndex = searchIndex;
+	}
+
+	@PostPersist
+	@PostUpdate
+	public void onSaved(Object entity) {
+		if (entity instanceof Household household) {
+			Integer id = household.getId();
+			String householdCode = household.getHouseholdCode();
+			String apartmentNumber = household.getApartmentNumber();
+			String ownerName = household.getOwnerName();
+			String address = household.getAddress();
+			afterCommit(index -> index.onHouseholdSaved(id, householdCode, apartmentNumber, ownerName, address));
+		} else if (entity instanceof Resident resident && resident.getHousehold() != null) {
+			Integer id = resident.getId();
+			Integer householdId = resident.getHousehold().getId();
+			String fullName = resident.getFullName();
+			afterCommit(index -> index.onResidentSaved(id, householdId, fullName));
+		}
+	}
+
+	@PostRemove
+	public void onRemoved(Object entity) {
+		if (entity instanceof Household household) {
+			Integer id = household.getId();
+			afterCommit(index -> index.onHouseholdDeleted(id));
+		} else if (entity instanceof Resident resident) {
+			Integer id = resident.getId();
+			afterCommit(index -> index.onResidentDeleted(id));
+		}
+	}
+
+	private void afterCommit(Consumer<HouseholdSearchIndex> change) {
+		HouseholdSearchIndex index = searchIndex.getIfAvailable();
+		if (index == null) {
+			return;
+		}
+
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			change.accept(index);
+			return;
+		}
+
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				change.accept(index);
+			}
+		});
+	}
+}
@@ -1,8 +1,13 @@
 package com.example.backend.repository;
 
 import com.example.backend.model.DonationCampaign;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
@@ -14,4 +19,23 @@ public interface DonationCampaignRepository extends JpaRepository<DonationCampai
 
 	@Query("SELECT dc FROM DonationCampaign dc WHERE dc.endDate IS NULL OR dc.endDate >= CURRENT_DATE")
 	List<DonationCampaign> findActiveCampaigns();
+
+	// Taken before any donation write to the campaign, so those writes run one at a time per campaign
+	@Query(value = "SELECT id FROM donation_campaigns WHERE id = :id FOR UPDATE", nativeQuery = true)
+	Integer lockForDonationWrite(@Param("id") Integer id);
+
+	// Atomic in-place update of the maintained totals
+	@Modifying
+	@Query("UPDATE DonationCampaign dc SET dc.totalDonated = COALESCE(dc.totalDonated, 0) + :amountDelta, " +
+			"dc.donorCount = COALESCE(dc.donorCount, 0) + :donorDelta WHERE dc.id = :id")
+	int adjustTotals(@Param("id") Integer id, @Param("amountDelta") Double amountDelta, @Param("donorDelta") Integer donorDelta);
+
+	// Fills the counters of campaigns created before they existed
+	@Modifying
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "donation_campaigns"))
+	@Query(value = "UPDATE donation_campaigns c SET " +
+			"c.total_donated = (SELECT COALESCE(SUM(d.amount), 0) FROM donations d WHERE d.donation_campaign_id = c.id), " +
+			"c.donor_count = (SELECT COUNT(DISTINCT d.household_id) FROM donations d WHERE d.donation_campaign_id = c.id) " +
+			"WHERE c.total_donated IS NULL OR c.donor_count IS NULL", nativeQuery = true)
+	int backfillTotals();
 }
\ No newline at end of file
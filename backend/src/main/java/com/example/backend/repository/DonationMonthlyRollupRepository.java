@@ -0,0 +1,74 @@
+package com.example.backend.repository;
+
+import com.example.backend.dto.projection.CampaignAmountView;
+import com.example.backend.dto.projection.DonationTotalView;
+import com.example.backend.model.DonationMonthlyRollup;
+import com.example.backend.model.DonationMonthlyRollupId;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface DonationMonthlyRollupRepository extends JpaRepository<DonationMonthlyRollup, DonationMonthlyRollupId> {
+
+	@Query("SELECT COALESCE(SUM(r.donationCount), 0) AS donationCount, COALESCE(SUM(r.totalAmount), 0.0) AS totalAmount, " +
+			"COALESCE(MAX(r.maxAmount), 0.0) AS highestDonation, COALESCE(MIN(r.minAmount), 0.0) AS lowestDonation " +
+			"FROM DonationMonthlyRollup r WHERE r.year = :year AND r.month = :month")
+	DonationTotalView getMonthTotals(@Param("year") int year, @Param("month") int month);
+
+	// Month keys are year * 100 + month, both bounds inclusive
+	@Query("SELECT r.campaignId AS campaignId, SUM(r.totalAmount) AS totalAmount, SUM(r.donationCount) AS donationCount " +
+			"FROM DonationMonthlyRollup r WHERE (r.year * 100 + r.month) BETWEEN :fromMonthKey AND :toMonthKey " +
+			"GROUP BY r.campaignId")
+	List<CampaignAmountView> sumByCampaignBetween(@Param("fromMonthKey") int fromMonthKey, @Param("toMonthKey") int toMonthKey);
+
+	@Modifying
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "donation_monthly_rollup"))
+	@Query(value = "INSERT INTO donation_monthly_rollup " +
+			"(`year`, `month`, donation_campaign_id, total_amount, donation_count, min_amount, max_amount) " +
+			"VALUES (:year, :month, :campaignId, :amount, 1, :amount, :amount) " +
+			"ON DUPLICATE KEY UPDATE total_amount = total_amount + VALUES(total_amount), " +
+			"donation_count = donation_count + 1, " +
+			"min_amount = LEAST(min_amount, VALUES(min_amount)), " +
+			"max_amount = GREATEST(max_amount, VALUES(max_amount))", nativeQuery = true)
+	void addDonation(@Param("year") int year, @Param("month") int month,
+					 @Param("campaignId") Integer campaignId, @Param("amount") Double amount);
+
+	@Modifying
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "donation_monthly_rollup"))
+	@Query(value = "DELETE FROM donation_monthly_rollup " +
+			"WHERE `year` = :year AND `month` = :month AND donation_campaign_id = :campaignId", nativeQuery = true)
+	void deleteBucket(@Param("year") int year, @Param("month") int month, @Param("campaignId") Integer campaignId);
+
+	@Modifying
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "donation_monthly_rollup"))
+	@Query(value = "INSERT INTO donation_monthly_rollup " +
+			"(`year`, `month`, donation_campaign_id, total_amount, donation_count, min_amount, max_amount) " +
+			"SELECT :year, :month, :campaignId, SUM(amount), COUNT(*), MIN(amount), MAX(amount) FROM donations " +
+			"WHERE donation_campaign_id = :campaignId AND donation_date BETWEEN :startDate AND :endDate " +
+			"HAVING COUNT(*) > 0", nativeQuery = true)
+	void insertBucketFromDonations(@Param("year") int year, @Param("month") int month, @Param("campaignId") Integer campaignId,
+								   @Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+	@Modifying
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "donation_monthly_rollup"))
+	@Query(value = "DELETE FROM donation_monthly_rollup", nativeQuery = true)
+	void deleteAllBuckets();
+
+	@Modifying
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "donation_monthly_rollup"))
+	@Query(value = "INSERT INTO donation_monthly_rollup " +
+			"(`year`, `month`, donation_campaign_id, total_amount, donation_count, min_amount, max_amount) " +
+			"SELECT YEAR(donation_date), MONTH(donation_date), donation_campaign_id, " +
+			"SUM(amount), COUNT(*), MIN(amount), MAX(amount) FROM donations WHERE donation_date IS NOT NULL " +
+			"GROUP BY YEAR(donation_date), MONTH(donation_date), donation_campaign_id", nativeQuery = true)
+	int insertAllBucketsFromDonations();
+}
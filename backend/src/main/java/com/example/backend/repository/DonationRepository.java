@@ -1,11 +1,19 @@
 package com.example.backend.repository;
 
+import com.example.backend.dto.projection.CampaignAmountView;
+import com.example.backend.dto.projection.HouseholdDonationCountView;
 import com.example.backend.model.Donation;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -13,6 +21,36 @@ public interface DonationRepository extends JpaRepository<Donation, Integer> {
 	List<Donation> findByHouseholdId(Integer householdId);
 	List<Donation> findByDonationCampaignId(Integer donationCampaignId);
 	List<Donation> findByDonationDateBetween(LocalDate startDate, LocalDate endDate);
+
+	// Keyset pages on the primary key; the foreign key indexes already end in id
+	@EntityGraph(attributePaths = {"household", "donationCampaign"})
+	Window<Donation> findByHouseholdIdOrderByIdAsc(Integer householdId, ScrollPosition position, Limit limit);
+	@EntityGraph(attributePaths = {"household", "donationCampaign"})
+	Window<Donation> findByDonationCampaignIdOrderByIdAsc(Integer donationCampaignId, ScrollPosition position, Limit limit);
 	@Query("SELECT SUM(d.amount) FROM Donation d WHERE d.donationCampaign.id = ?1")
 	Double getTotalDonationAmountByCampaignId(Integer campaignId);
+	boolean existsByDonationCampaignId(Integer donationCampaignId);
+
+	// Locking read, so it sees donations committed after this transaction's snapshot was taken;
+	// callers hold the campaign lock, and the (household, campaign) index keeps the read to that pair
+	@Query(value = "SELECT COUNT(*) FROM donations WHERE household_id = :householdId " +
+			"AND donation_campaign_id = :campaignId AND id <> :excludedId LOCK IN SHARE MODE", nativeQuery = true)
+	long countOtherDonationsForUpdate(@Param("householdId") Integer householdId, @Param("campaignId") Integer campaignId,
+									  @Param("excludedId") Integer excludedId);
+
+	@Query("SELECT d FROM Donation d JOIN FETCH d.household JOIN FETCH d.donationCampaign " +
+			"WHERE d.household.id IN :householdIds ORDER BY d.id")
+	List<Donation> findByHouseholdIdIn(@Param("householdIds") Collection<Integer> householdIds);
+
+	@Query("SELECT d FROM Donation d JOIN FETCH d.household JOIN FETCH d.donationCampaign " +
+			"WHERE d.donationCampaign.id IN :campaignIds ORDER BY d.id")
+	List<Donation> findByDonationCampaignIdIn(@Param("campaignIds") Collection<Integer> campaignIds);
+
+	@Query("SELECT (SELECT COUNT(h) FROM Household h) AS totalHouseholds, COUNT(DISTINCT d.household.id) AS paidHouseholds " +
+			"FROM Donation d WHERE d.donationDate BETWEEN :startDate AND :endDate")
+	HouseholdDonationCountView countDonatingHouseholds(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+	@Query("SELECT d.donationCampaign.id AS campaignId, SUM(d.amount) AS totalAmount, COUNT(d) AS donationCount " +
+			"FROM Donation d WHERE d.donationDate BETWEEN :startDate AND :endDate GROUP BY d.donationCampaign.id")
+	List<CampaignAmountView> sumByCampaignBetween(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
 }
\ No newline at end of file
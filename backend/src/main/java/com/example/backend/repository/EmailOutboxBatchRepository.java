@@ -0,0 +1,47 @@
+package com.example.backend.repository;
+
+import com.example.backend.model.EmailOutbox;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * JDBC batch writer for the email outbox, used by bulk mailings that queue
+ * hundreds of messages at a time.
+ */
+@Repository
+@RequiredArgsConstructor
+public class EmailOutboxBatchRepository {
+
+	private static final String INSERT_SQL = "INSERT INTO email_outbox " +
+			"(recipient, subject, body, html, status, attempts, next_attempt_at, created_at) " +
+			"VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	/**
+	 * Inserts the given messages as a single JDBC batch. Must run inside the transaction
+	 * that records what was queued, so a batch is either queued and recorded or neither.
+	 */
+	public void batchInsert(List<EmailOutbox> emails) {
+		if (emails.isEmpty()) {
+			return;
+		}
+
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+		jdbcTemplate.batchUpdate(INSERT_SQL, emails, emails.size(), (ps, email) -> {
+			ps.setString(1, email.getRecipient());
+			ps.setString(2, email.getSubject());
+			ps.setString(3, email.getBody());
+			ps.setBoolean(4, email.isHtml());
+			ps.setString(5, email.getStatus().name());
+			ps.setInt(6, email.getAttempts());
+			ps.setTimestamp(7, Timestamp.valueOf(email.getNextAttemptAt()));
+			ps.setTimestamp(8, now);
+		});
+	}
+}
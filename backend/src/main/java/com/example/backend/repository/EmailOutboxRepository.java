@@ -0,0 +1,57 @@
+package com.example.backend.repository;
+
+import com.example.backend.model.EmailOutbox;
+import com.example.backend.model.enums.EmailStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface EmailOutboxRepository extends JpaRepository<EmailOutbox, Long> {
+
+	/**
+	 * Locks the next due messages. Rows already locked by another dispatcher are skipped
+	 * rather than waited on, so several workers can claim disjoint batches at the same time.
+	 */
+	@Query(value = "SELECT * FROM email_outbox WHERE status = 'PENDING' AND next_attempt_at <= :now " +
+			"ORDER BY next_attempt_at, id LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+	List<EmailOutbox> lockDue(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("UPDATE EmailOutbox e SET e.status = com.example.backend.model.enums.EmailStatus.SENDING, " +
+			"e.attempts = e.attempts + 1, e.lockedUntil = :lockedUntil WHERE e.id IN :ids")
+	int markSending(@Param("ids") Collection<Long> ids, @Param("lockedUntil") LocalDateTime lockedUntil);
+
+	@Modifying
+	@Query("UPDATE EmailOutbox e SET e.status = com.example.backend.model.enums.EmailStatus.SENT, " +
+			"e.sentAt = :sentAt, e.lockedUntil = null, e.lastError = null WHERE e.id IN :ids")
+	int markSent(@Param("ids") Collection<Long> ids, @Param("sentAt") LocalDateTime sentAt);
+
+	@Modifying
+	@Query("UPDATE EmailOutbox e SET e.status = :status, e.nextAttemptAt = :nextAttemptAt, " +
+			"e.lockedUntil = null, e.lastError = :error WHERE e.id = :id")
+	int markFailed(@Param("id") Long id, @Param("status") EmailStatus status,
+				   @Param("nextAttemptAt") LocalDateTime nextAttemptAt, @Param("error") String error);
+
+	// Hands messages of a crashed dispatcher back to the queue; the attempt it made still counts
+	@Modifying
+	@Query("UPDATE EmailOutbox e SET e.status = com.example.backend.model.enums.EmailStatus.PENDING, " +
+			"e.lockedUntil = null WHERE e.status = com.example.backend.model.enums.EmailStatus.SENDING " +
+			"AND e.lockedUntil < :now")
+	int releaseExpiredLeases(@Param("now") LocalDateTime now);
+
+	@Modifying
+	@Query("UPDATE EmailOutbox e SET e.status = com.example.backend.model.enums.EmailStatus.PENDING, " +
+			"e.attempts = 0, e.nextAttemptAt = :now, e.lastError = null " +
+			"WHERE e.id = :id AND e.status = com.example.backend.model.enums.EmailStatus.DEAD")
+	int requeueDead(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+	@Query("SELECT e.status, COUNT(e) FROM EmailOutbox e GROUP BY e.status")
+	List<Object[]> countByStatus();
+}
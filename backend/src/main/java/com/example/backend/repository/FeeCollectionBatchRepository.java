@@ -0,0 +1,69 @@
+package com.example.backend.repository;
+
+import com.example.backend.config.YearMonthConverter;
+import com.example.backend.model.FeeCollection;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * JDBC batch writer for fee collections, used where going through the
+ * persistence context row by row is too slow (monthly generation).
+ */
+@Repository
+@RequiredArgsConstructor
+public class FeeCollectionBatchRepository {
+
+	// INSERT IGNORE keeps the generation idempotent against the (household, fee type, month) unique key
+	private static final String INSERT_SQL = "INSERT IGNORE INTO fee_collections " +
+			"(household_id, fee_type_id, month_year, amount, is_paid, created_by, created_at) VALUES ";
+	private static final String ROW_PLACEHOLDERS = "(?, ?, ?, ?, ?, ?, ?)";
+	// Keeps each statement well below the 65535 placeholders MySQL accepts
+	private static final int MAX_ROWS_PER_STATEMENT = 1000;
+
+	private static final YearMonthConverter YEAR_MONTH_CONVERTER = new YearMonthConverter();
+
+	private final JdbcTemplate jdbcTemplate;
+
+	/**
+	 * Inserts the given fee collections with multi-row statements. Unlike a rewritten JDBC
+	 * batch, which only reports SUCCESS_NO_INFO, their update counts are the number of rows
+	 * actually inserted, so rows skipped by INSERT IGNORE are not counted.
+	 *
+	 * @param feeCollections Rows to insert; only the household and fee type ids are read from the associations
+	 * @return Number of rows inserted
+	 */
+	public int batchInsert(List<FeeCollection> feeCollections) {
+		if (feeCollections.isEmpty()) {
+			return 0;
+		}
+
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+		int inserted = 0;
+		for (int from = 0; from < feeCollections.size(); from += MAX_ROWS_PER_STATEMENT) {
+			inserted += insertRows(feeCollections.subList(from, Math.min(from + MAX_ROWS_PER_STATEMENT, feeCollections.size())), now);
+		}
+		return inserted;
+	}
+
+	private int insertRows(List<FeeCollection> rows, Timestamp now) {
+		String sql = INSERT_SQL + String.join(", ", Collections.nCopies(rows.size(), ROW_PLACEHOLDERS));
+		return jdbcTemplate.update(sql, ps -> {
+			int index = 1;
+			for (FeeCollection fee : rows) {
+				ps.setInt(index++, fee.getHousehold().getId());
+				ps.setInt(index++, fee.getFeeType().getId());
+				ps.setString(index++, YEAR_MONTH_CONVERTER.convertToDatabaseColumn(fee.getYearMonth()));
+				ps.setDouble(index++, fee.getAmount());
+				ps.setBoolean(index++, Boolean.TRUE.equals(fee.getIsPaid()));
+				ps.setString(index++, fee.getCreatedBy());
+				ps.setTimestamp(index++, now);
+			}
+		});
+	}
+}
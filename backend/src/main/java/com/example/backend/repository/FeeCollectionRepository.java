@@ -1,14 +1,24 @@
 package com.example.backend.repository;
 
+import com.example.backend.dto.projection.FeeCollectionKeyView;
+import com.example.backend.dto.projection.PaidStateView;
 import com.example.backend.model.FeeCollection;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
 import java.time.YearMonth;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface FeeCollectionRepository extends JpaRepository<FeeCollection, Integer> {
@@ -19,11 +29,42 @@ public interface FeeCollectionRepository extends JpaRepository<FeeCollection, In
 	List<FeeCollection> findByFeeTypeId(Integer feeTypeId);
 	List<FeeCollection> findByHouseholdIdAndYearMonth(Integer householdId, YearMonth yearMonth);
 
+	@Query("SELECT f FROM FeeCollection f JOIN FETCH f.household JOIN FETCH f.feeType " +
+			"WHERE f.household.id IN :householdIds ORDER BY f.id")
+	List<FeeCollection> findByHouseholdIdIn(@Param("householdIds") Collection<Integer> householdIds);
+
 	@Query("SELECT SUM(f.amount) FROM FeeCollection f WHERE f.yearMonth = ?1 AND f.isPaid = true")
 	Double getTotalCollectedAmountByYearMonth(YearMonth yearMonth);
 
 	@Query("SELECT SUM(f.amount) FROM FeeCollection f WHERE f.yearMonth = ?1")
 	Double getTotalExpectedAmountByYearMonth(YearMonth yearMonth);
 
+	/**
+	 * Streams a month's fee collections with their household and fee type. A fetch size of
+	 * {@link Integer#MIN_VALUE} makes MySQL Connector/J stream the rows instead of buffering the
+	 * whole result; the connection cannot run another query until the stream is closed.
+	 */
+	@Query("SELECT f FROM FeeCollection f JOIN FETCH f.household JOIN FETCH f.feeType WHERE f.yearMonth = :yearMonth ORDER BY f.id")
+	@QueryHints({
+			@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+			@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+			@QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE")
+	})
+	Stream<FeeCollection> streamByYearMonth(@Param("yearMonth") YearMonth yearMonth);
+
 	Page<FeeCollection> findByYearMonthOrderByHouseholdIdAsc(YearMonth yearMonth, Pageable pageable);
-}
\ No newline at end of file
+
+	@Query("SELECT f.household.id AS householdId, f.feeType.id AS feeTypeId FROM FeeCollection f " +
+			"WHERE f.yearMonth = ?1 AND f.household.id BETWEEN ?2 AND ?3")
+	List<FeeCollectionKeyView> findKeysByYearMonthAndHouseholdIdBetween(YearMonth yearMonth, Integer fromHouseholdId, Integer toHouseholdId);
+
+	// Locks the rows of a batch payment, so their paid state cannot change before the update
+	@Query(value = "SELECT id AS id, is_paid AS isPaid FROM fee_collections WHERE id IN (:ids) FOR UPDATE", nativeQuery = true)
+	List<PaidStateView> findPaidStatesForUpdate(@Param("ids") Collection<Integer> ids);
+
+	@Modifying
+	@Query("UPDATE FeeCollection f SET f.isPaid = true, f.paidDate = :paidDate, f.collectedBy = :collectedBy " +
+			"WHERE f.id IN :ids AND f.isPaid = false")
+	int markAllAsPaid(@Param("ids") Collection<Integer> ids, @Param("paidDate") LocalDate paidDate,
+					  @Param("collectedBy") String collectedBy);
+}
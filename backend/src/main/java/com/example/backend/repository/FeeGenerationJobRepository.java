@@ -0,0 +1,19 @@
+package com.example.backend.repository;
+
+import com.example.backend.model.FeeGenerationJob;
+import com.example.backend.model.enums.JobStatus;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface FeeGenerationJobRepository extends JpaRepository<FeeGenerationJob, Integer> {
+	List<FeeGenerationJob> findByStatusIn(Collection<JobStatus> statuses);
+	boolean existsByYearMonthAndStatusIn(YearMonth yearMonth, Collection<JobStatus> statuses);
+	Page<FeeGenerationJob> findAllByOrderByCreatedAtDesc(Pageable pageable);
+}
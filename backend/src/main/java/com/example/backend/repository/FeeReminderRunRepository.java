@@ -0,0 +1,18 @@
+package com.example.backend.repository;
+
+import com.example.backend.model.FeeReminderRun;
+import com.example.backend.model.enums.JobStatus;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface FeeReminderRunRepository extends JpaRepository<FeeReminderRun, Integer> {
+	List<FeeReminderRun> findByStatusIn(Collection<JobStatus> statuses);
+	boolean existsByStatusIn(Collection<JobStatus> statuses);
+	Page<FeeReminderRun> findAllByOrderByCreatedAtDesc(Pageable pageable);
+}
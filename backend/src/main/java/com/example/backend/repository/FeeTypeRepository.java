@@ -1,7 +1,10 @@
 package com.example.backend.repository;
 
 import com.example.backend.model.FeeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -9,6 +12,15 @@ import java.util.Optional;
 
 @Repository
 public interface FeeTypeRepository extends JpaRepository<FeeType, Integer> {
+	@QueryHints({
+			@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+			@QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "reference-queries")
+	})
 	Optional<FeeType> findByName(String name);
+
+	@QueryHints({
+			@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+			@QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "reference-queries")
+	})
 	List<FeeType> findByIsRequired(Boolean isRequired);
 }
\ No newline at end of file
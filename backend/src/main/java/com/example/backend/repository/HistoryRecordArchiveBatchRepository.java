@@ -0,0 +1,87 @@
+package com.example.backend.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * JDBC operations of the history archive job. Rows are moved by primary key in small
+ * chunks so the live table is only ever locked row by row.
+ */
+@Repository
+@RequiredArgsConstructor
+public class HistoryRecordArchiveBatchRepository {
+
+	private static final String COLUMNS = "id, entity_type, entity_id, action_type, `timestamp`";
+
+	private final NamedParameterJdbcTemplate jdbcTemplate;
+
+	/**
+	 * Returns the IDs of up to {@code limit} live records older than the cutoff, oldest first.
+	 */
+	public List<Integer> findLiveIdsBefore(LocalDateTime cutoff, int limit) {
+		return jdbcTemplate.queryForList(
+				"SELECT id FROM history_records WHERE `timestamp` < :cutoff ORDER BY `timestamp`, id LIMIT :limit",
+				new MapSqlParameterSource("cutoff", Timestamp.valueOf(cutoff)).addValue("limit", limit),
+				Integer.class);
+	}
+
+	/**
+	 * Copies the given live records into the archive and deletes them from the live table.
+	 * Must run inside a transaction.
+	 *
+	 * @return Number of records removed from the live table
+	 */
+	public int moveToArchive(List<Integer> ids) {
+		MapSqlParameterSource params = new MapSqlParameterSource("ids", ids);
+		// INSERT IGNORE keeps a retried chunk from failing on rows archived by an interrupted run
+		jdbcTemplate.update("INSERT IGNORE INTO history_records_archive (" + COLUMNS + ") " +
+				"SELECT " + COLUMNS + " FROM history_records WHERE id IN (:ids)", params);
+		return jdbcTemplate.update("DELETE FROM history_records WHERE id IN (:ids)", params);
+	}
+
+	/**
+	 * Returns the months that still have archived records older than the cutoff, oldest first.
+	 */
+	public List<YearMonth> findArchivedMonthsBefore(LocalDateTime cutoff) {
+		return jdbcTemplate.queryForList(
+				"SELECT DISTINCT DATE_FORMAT(`timestamp`, '%Y-%m') AS month_year FROM history_records_archive " +
+						"WHERE `timestamp` < :cutoff ORDER BY month_year",
+				new MapSqlParameterSource("cutoff", Timestamp.valueOf(cutoff)),
+				String.class).stream()
+				.map(YearMonth::parse)
+				.toList();
+	}
+
+	/**
+	 * Streams the archived records of one month, ordered by timestamp and id.
+	 */
+	public void streamMonth(YearMonth month, RowCallbackHandler handler) {
+		jdbcTemplate.query("SELECT " + COLUMNS + " FROM history_records_archive " +
+						"WHERE `timestamp` >= :from AND `timestamp` < :to ORDER BY `timestamp`, id",
+				monthParams(month), handler);
+	}
+
+	/**
+	 * Deletes up to {@code limit} archived records of one month.
+	 *
+	 * @return Number of records deleted
+	 */
+	public int deleteMonth(YearMonth month, int limit) {
+		return jdbcTemplate.update("DELETE FROM history_records_archive " +
+						"WHERE `timestamp` >= :from AND `timestamp` < :to LIMIT :limit",
+				monthParams(month).addValue("limit", limit));
+	}
+
+	private static MapSqlParameterSource monthParams(YearMonth month) {
+		return new MapSqlParameterSource("from", Timestamp.valueOf(month.atDay(1).atStartOfDay()))
+				.addValue("to", Timestamp.valueOf(month.plusMonths(1).atDay(1).atStartOfDay()));
+	}
+}
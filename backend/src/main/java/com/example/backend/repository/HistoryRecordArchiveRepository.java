@@ -0,0 +1,16 @@
+package com.example.backend.repository;
+
+import com.example.backend.model.HistoryRecordArchive;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface HistoryRecordArchiveRepository extends JpaRepository<HistoryRecordArchive, Integer> {
+	Window<HistoryRecordArchive> findAllByOrderByTimestampDescIdDesc(ScrollPosition position, Limit limit);
+	Window<HistoryRecordArchive> findByEntityTypeAndEntityIdOrderByTimestampDescIdDesc(String entityType, Integer entityId, ScrollPosition position, Limit limit);
+	Window<HistoryRecordArchive> findByEntityTypeOrderByTimestampDescIdDesc(String entityType, ScrollPosition position, Limit limit);
+	Window<HistoryRecordArchive> findByActionTypeOrderByTimestampDescIdDesc(String actionType, ScrollPosition position, Limit limit);
+}
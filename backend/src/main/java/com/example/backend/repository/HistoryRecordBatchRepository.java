@@ -0,0 +1,40 @@
+package com.example.backend.repository;
+
+import com.example.backend.model.HistoryRecord;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * JDBC batch writer for history records, used by the background audit writer.
+ */
+@Repository
+@RequiredArgsConstructor
+public class HistoryRecordBatchRepository {
+
+	private static final String INSERT_SQL = "INSERT INTO history_records " +
+			"(entity_type, entity_id, action_type, `timestamp`) VALUES (?, ?, ?, ?)";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	/**
+	 * Inserts the given history records as a single JDBC batch.
+	 *
+	 * @param records Records to insert; their IDs are ignored
+	 */
+	public void batchInsert(List<HistoryRecord> records) {
+		if (records.isEmpty()) {
+			return;
+		}
+
+		jdbcTemplate.batchUpdate(INSERT_SQL, records, records.size(), (ps, record) -> {
+			ps.setString(1, record.getEntityType());
+			ps.setInt(2, record.getEntityId());
+			ps.setString(3, record.getActionType());
+			ps.setTimestamp(4, Timestamp.valueOf(record.getTimestamp()));
+		});
+	}
+}
@@ -1,14 +1,23 @@
 package com.example.backend.repository;
 
 import com.example.backend.model.HistoryRecord;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
-import java.util.List;
-
 @Repository
 public interface HistoryRecordRepository extends JpaRepository<HistoryRecord, Integer> {
-	List<HistoryRecord> findByEntityTypeAndEntityIdOrderByTimestampDesc(String entityType, Integer entityId);
-	List<HistoryRecord> findByEntityTypeOrderByTimestampDesc(String entityType);
-	List<HistoryRecord> findByActionType(String actionType);
+	Page<HistoryRecord> findByEntityTypeAndEntityIdOrderByTimestampDescIdDesc(String entityType, Integer entityId, Pageable pageable);
+	Page<HistoryRecord> findByEntityTypeOrderByTimestampDescIdDesc(String entityType, Pageable pageable);
+	Page<HistoryRecord> findByActionTypeOrderByTimestampDescIdDesc(String actionType, Pageable pageable);
+
+	// Keyset pagination, newest first; the position carries the (timestamp, id) of the last row seen
+	Window<HistoryRecord> findAllByOrderByTimestampDescIdDesc(ScrollPosition position, Limit limit);
+	Window<HistoryRecord> findByEntityTypeAndEntityIdOrderByTimestampDescIdDesc(String entityType, Integer entityId, ScrollPosition position, Limit limit);
+	Window<HistoryRecord> findByEntityTypeOrderByTimestampDescIdDesc(String entityType, ScrollPosition position, Limit limit);
+	Window<HistoryRecord> findByActionTypeOrderByTimestampDescIdDesc(String actionType, ScrollPosition position, Limit limit);
 }
\ No newline at end of file
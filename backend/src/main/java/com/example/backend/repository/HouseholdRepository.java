@@ -1,19 +1,64 @@
 package com.example.backend.repository;
 
+import com.example.backend.dto.projection.HouseholdAreaView;
+import com.example.backend.dto.projection.HouseholdCodeView;
+import com.example.backend.dto.projection.HouseholdSummaryView;
 import com.example.backend.model.Household;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface HouseholdRepository extends JpaRepository<Household, Integer> {
 	Household findByHouseholdCode(String householdCode);
 
-	@Query("SELECT h FROM Household h WHERE " +
+	Optional<HouseholdSummaryView> findProjectedById(Integer id);
+	Optional<HouseholdSummaryView> findProjectedByHouseholdCode(String householdCode);
+	Page<HouseholdSummaryView> findAllProjectedBy(Pageable pageable);
+
+	@Query("SELECT h.id AS id, h.householdCode AS householdCode, h.apartmentNumber AS apartmentNumber, " +
+			"h.areaM2 AS areaM2, h.address AS address, h.ownerName AS ownerName, h.phoneNumber AS phoneNumber, " +
+			"h.contactEmail AS contactEmail, h.registrationDate AS registrationDate, h.createdAt AS createdAt FROM Household h WHERE " +
 			"LOWER(h.householdCode) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
 			"LOWER(h.apartmentNumber) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
 			"LOWER(h.ownerName) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-			"LOWER(h.address) LIKE LOWER(CONCAT('%', :keyword, '%'))")
-	List<Household> searchHouseholds(@Param("keyword") String keyword);
+			"LOWER(h.address) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+			"EXISTS (SELECT 1 FROM Resident r WHERE r.household = h AND LOWER(r.fullName) LIKE LOWER(CONCAT('%', :keyword, '%')))")
+	List<HouseholdSummaryView> searchHouseholds(@Param("keyword") String keyword);
+
+	@Query(value = "SELECT h.id AS id, h.householdCode AS householdCode, h.apartmentNumber AS apartmentNumber, " +
+			"h.areaM2 AS areaM2, h.address AS address, h.ownerName AS ownerName, h.phoneNumber AS phoneNumber, " +
+			"h.contactEmail AS contactEmail, h.registrationDate AS registrationDate, h.createdAt AS createdAt FROM Household h WHERE " +
+			"LOWER(h.householdCode) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+			"LOWER(h.apartmentNumber) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+			"LOWER(h.ownerName) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+			"LOWER(h.address) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+			"EXISTS (SELECT 1 FROM Resident r WHERE r.household = h AND LOWER(r.fullName) LIKE LOWER(CONCAT('%', :keyword, '%')))",
+			countQuery = "SELECT COUNT(h) FROM Household h WHERE " +
+			"LOWER(h.householdCode) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+			"LOWER(h.apartmentNumber) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+			"LOWER(h.ownerName) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+			"LOWER(h.address) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+			"EXISTS (SELECT 1 FROM Resident r WHERE r.household = h AND LOWER(r.fullName) LIKE LOWER(CONCAT('%', :keyword, '%')))")
+	Page<HouseholdSummaryView> searchHouseholds(@Param("keyword") String keyword, Pageable pageable);
+
+	@Query("SELECT h.id AS id, h.householdCode AS householdCode, h.apartmentNumber AS apartmentNumber, " +
+			"h.areaM2 AS areaM2, h.address AS address, h.ownerName AS ownerName, h.phoneNumber AS phoneNumber, " +
+			"h.contactEmail AS contactEmail, h.registrationDate AS registrationDate, h.createdAt AS createdAt FROM Household h WHERE h.id > :afterId ORDER BY h.id")
+	List<HouseholdSummaryView> findSummariesAfter(@Param("afterId") Integer afterId, Pageable pageable);
+
+	List<HouseholdSummaryView> findProjectedByIdIn(Collection<Integer> ids);
+
+	Page<HouseholdSummaryView> findProjectedByIdIn(Collection<Integer> ids, Pageable pageable);
+
+	@Query("SELECT h.id AS id, h.householdCode AS householdCode FROM Household h")
+	List<HouseholdCodeView> findAllCodeViews();
+
+	@Query("SELECT h.id AS id, h.areaM2 AS areaM2 FROM Household h WHERE h.id > :afterId ORDER BY h.id")
+	List<HouseholdAreaView> findAreaViewsAfter(@Param("afterId") Integer afterId, Pageable pageable);
 }
\ No newline at end of file
@@ -4,7 +4,10 @@ import com.example.backend.model.PopulationChange;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface PopulationChangeRepository extends JpaRepository<PopulationChange, Integer> {
@@ -12,4 +15,8 @@ public interface PopulationChangeRepository extends JpaRepository<PopulationChan
 	List<PopulationChange> findByResidentId(Integer residentId);
 	List<PopulationChange> findByIsApproved(Boolean isApproved);
 	Page<PopulationChange> findByIsApproved(Boolean isApproved, Pageable pageable);
+
+	@Query("SELECT p FROM PopulationChange p JOIN FETCH p.household JOIN FETCH p.resident " +
+			"WHERE p.household.id IN :householdIds ORDER BY p.id")
+	List<PopulationChange> findByHouseholdIdIn(@Param("householdIds") Collection<Integer> householdIds);
 }
\ No newline at end of file
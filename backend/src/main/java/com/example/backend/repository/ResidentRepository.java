@@ -1,11 +1,50 @@
 package com.example.backend.repository;
 
+import com.example.backend.dto.projection.HouseholdResidentCountView;
+import com.example.backend.dto.projection.ResidentNameView;
 import com.example.backend.model.Resident;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface ResidentRepository extends JpaRepository<Resident, Integer> {
 	List<Resident> findByHouseholdId(Integer householdId);
 	Resident findByIdCardNumber(String idCardNumber);
+
+	@Query("SELECT r FROM Resident r JOIN FETCH r.household WHERE r.household.id IN :householdIds ORDER BY r.id")
+	List<Resident> findByHouseholdIdIn(@Param("householdIds") Collection<Integer> householdIds);
+
+	@Query("SELECT r.household.id AS householdId, COUNT(r) AS residentCount FROM Resident r " +
+			"WHERE r.household.id IN :householdIds GROUP BY r.household.id")
+	List<HouseholdResidentCountView> countByHouseholdIdIn(@Param("householdIds") Collection<Integer> householdIds);
+
+	// Matches the start of any word of the name through the token index, or the start of the ID card number
+	// through its unique index; each branch is an index range scan. Name prefixes rank first.
+	@Query(value = "SELECT r.id FROM residents r JOIN (" +
+			"SELECT t.resident_id AS id FROM resident_search_tokens t WHERE t.token LIKE CONCAT(:keyword, '%') " +
+			"UNION SELECT c.id FROM residents c WHERE c.id_card_number LIKE CONCAT(:idCardPrefix, '%')" +
+			") m ON m.id = r.id " +
+			"ORDER BY CASE WHEN r.search_name LIKE CONCAT(:keyword, '%') THEN 0 ELSE 1 END, r.search_name, r.id",
+			countQuery = "SELECT COUNT(*) FROM (" +
+					"SELECT t.resident_id AS id FROM resident_search_tokens t WHERE t.token LIKE CONCAT(:keyword, '%') " +
+					"UNION SELECT c.id FROM residents c WHERE c.id_card_number LIKE CONCAT(:idCardPrefix, '%')" +
+					") m",
+			nativeQuery = true)
+	Page<Integer> searchIds(@Param("keyword") String keyword, @Param("idCardPrefix") String idCardPrefix, Pageable pageable);
+
+	@Query("SELECT r FROM Resident r JOIN FETCH r.household WHERE r.id IN :ids")
+	List<Resident> findWithHouseholdByIdIn(@Param("ids") Collection<Integer> ids);
+
+	@Query("SELECT r.id AS id, r.household.id AS householdId, r.fullName AS fullName FROM Resident r " +
+			"WHERE r.id > :afterId ORDER BY r.id")
+	List<ResidentNameView> findNamesAfter(@Param("afterId") Integer afterId, Pageable pageable);
+
+	@Query("SELECT r FROM Resident r JOIN FETCH r.household " +
+			"WHERE r.id > :afterId AND (r.searchName IS NULL OR r.searchTokens IS EMPTY) ORDER BY r.id")
+	List<Resident> findWithoutSearchTokensAfter(@Param("afterId") Integer afterId, Pageable pageable);
 }
\ No newline at end of file
@@ -0,0 +1,71 @@
+package com.example.backend.repository;
+
+import com.example.backend.config.YearMonthConverter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * Reads unpaid fee collections, utility bills and vehicle fees for the reminder mailer.
+ * Households are walked in id order in keyset chunks, so a run never loads more than
+ * one chunk and can resume from the last household it finished.
+ */
+@Repository
+@RequiredArgsConstructor
+public class UnpaidFeeReminderRepository {
+
+	private static final YearMonthConverter YEAR_MONTH_CONVERTER = new YearMonthConverter();
+
+	private static final String HAS_UNPAID =
+			"EXISTS (SELECT 1 FROM fee_collections fc WHERE fc.household_id = h.id AND fc.is_paid = false AND fc.month_year <= :upTo) OR " +
+			"EXISTS (SELECT 1 FROM utility_bills ub WHERE ub.household_id = h.id AND ub.is_paid = false AND ub.month_year <= :upTo) OR " +
+			"EXISTS (SELECT 1 FROM vehicle_fees vf JOIN vehicles v ON v.id = vf.vehicle_id " +
+			"WHERE v.household_id = h.id AND vf.is_paid = false AND vf.month_year <= :upTo)";
+
+	private final NamedParameterJdbcTemplate jdbcTemplate;
+
+	/**
+	 * Returns up to {@code limit} households after {@code afterId} that have unpaid items
+	 * up to the given month, in id order.
+	 */
+	public List<ReminderHousehold> findHouseholdsWithUnpaidAfter(YearMonth upTo, int afterId, int limit) {
+		return jdbcTemplate.query("SELECT h.id, h.household_code, h.apartment_number, h.owner_name, h.contact_email " +
+						"FROM households h WHERE h.id > :afterId AND (" + HAS_UNPAID + ") ORDER BY h.id LIMIT :limit",
+				params(upTo).addValue("afterId", afterId).addValue("limit", limit),
+				(rs, rowNum) -> new ReminderHousehold(rs.getInt("id"), rs.getString("household_code"),
+						rs.getString("apartment_number"), rs.getString("owner_name"), rs.getString("contact_email")));
+	}
+
+	/**
+	 * Streams the unpaid items of the households with ids in {@code (afterId, toId]},
+	 * ordered by household, so the handler sees each household's items together.
+	 */
+	public void streamUnpaidItems(YearMonth upTo, int afterId, int toId, RowCallbackHandler handler) {
+		jdbcTemplate.query(
+				"SELECT fc.household_id, 'FEE' AS category, ft.name AS description, fc.month_year, fc.amount " +
+						"FROM fee_collections fc JOIN fee_types ft ON ft.id = fc.fee_type_id " +
+						"WHERE fc.is_paid = false AND fc.month_year <= :upTo AND fc.household_id > :afterId AND fc.household_id <= :toId " +
+						"UNION ALL " +
+						"SELECT ub.household_id, 'UTILITY', ub.type, ub.month_year, ub.amount FROM utility_bills ub " +
+						"WHERE ub.is_paid = false AND ub.month_year <= :upTo AND ub.household_id > :afterId AND ub.household_id <= :toId " +
+						"UNION ALL " +
+						"SELECT v.household_id, 'VEHICLE', CONCAT(v.license_plate, ' (', vf.ticket_type, ')'), vf.month_year, vf.amount " +
+						"FROM vehicle_fees vf JOIN vehicles v ON v.id = vf.vehicle_id " +
+						"WHERE vf.is_paid = false AND vf.month_year <= :upTo AND v.household_id > :afterId AND v.household_id <= :toId " +
+						"ORDER BY household_id, month_year, category",
+				params(upTo).addValue("afterId", afterId).addValue("toId", toId), handler);
+	}
+
+	private static MapSqlParameterSource params(YearMonth upTo) {
+		return new MapSqlParameterSource("upTo", YEAR_MONTH_CONVERTER.convertToDatabaseColumn(upTo));
+	}
+
+	public record ReminderHousehold(Integer id, String householdCode, String apartmentNumber,
+									String ownerName, String contactEmail) {
+	}
+}
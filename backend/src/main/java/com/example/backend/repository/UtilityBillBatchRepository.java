@@ -0,0 +1,64 @@
+package com.example.backend.repository;
+
+import com.example.backend.model.UtilityBill;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Batch writer for utility bills, used by the monthly file import.
+ */
+@Repository
+@RequiredArgsConstructor
+public class UtilityBillBatchRepository {
+
+    // INSERT IGNORE skips bills whose (household, type, month) key was written concurrently
+    private static final String INSERT_SQL = "INSERT IGNORE INTO utility_bills " +
+            "(household_id, month_year, type, amount, is_paid, created_by, created_at) VALUES ";
+    private static final String ROW_PLACEHOLDERS = "(?, ?, ?, ?, ?, ?, ?)";
+    // Keeps each statement well below the 65535 placeholders MySQL accepts
+    private static final int MAX_ROWS_PER_STATEMENT = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Inserts the given bills with multi-row statements, whose update counts are the number
+     * of rows actually inserted.
+     *
+     * @param utilityBills Rows to insert; only the household id is read from the association
+     * @return Number of rows inserted; bills that already exist are skipped
+     */
+    public int batchInsert(List<UtilityBill> utilityBills) {
+        if (utilityBills.isEmpty()) {
+            return 0;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int inserted = 0;
+        for (int from = 0; from < utilityBills.size(); from += MAX_ROWS_PER_STATEMENT) {
+            inserted += insertRows(utilityBills.subList(from, Math.min(from + MAX_ROWS_PER_STATEMENT, utilityBills.size())), now);
+        }
+        return inserted;
+    }
+
+    private int insertRows(List<UtilityBill> rows, Timestamp now) {
+        String sql = INSERT_SQL + String.join(", ", Collections.nCopies(rows.size(), ROW_PLACEHOLDERS));
+        return jdbcTemplate.update(sql, ps -> {
+            int index = 1;
+            for (UtilityBill bill : rows) {
+                ps.setInt(index++, bill.getHousehold().getId());
+                ps.setString(index++, bill.getMonthYear());
+                ps.setString(index++, bill.getType().name());
+                ps.setDouble(index++, bill.getAmount());
+                ps.setBoolean(index++, Boolean.TRUE.equals(bill.getIsPaid()));
+                ps.setString(index++, bill.getCreatedBy());
+                ps.setTimestamp(index++, now);
+            }
+        });
+    }
+}
@@ -1,12 +1,19 @@
 package com.example.backend.repository;
 
+import com.example.backend.dto.projection.PaidStateView;
+import com.example.backend.dto.projection.UtilityBillKeyView;
 import com.example.backend.model.UtilityBill;
 import com.example.backend.model.enums.UtilityType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -16,5 +23,21 @@ public interface UtilityBillRepository extends JpaRepository<UtilityBill, Intege
     List<UtilityBill> findByHouseholdIdAndTypeAndMonthYear(Integer householdId, UtilityType type, String monthYear);
     boolean existsByHouseholdIdAndTypeAndMonthYear(Integer householdId, UtilityType type, String monthYear);
     Page<UtilityBill> findByHouseholdId(Integer householdId, Pageable pageable);
+
+    // Existing (household, type, month) keys among a batch of candidates, checked with one query
+    @Query("SELECT u.household.id AS householdId, u.type AS type, u.monthYear AS monthYear FROM UtilityBill u " +
+            "WHERE u.household.id IN :householdIds AND u.monthYear IN :monthYears")
+    List<UtilityBillKeyView> findKeysByHouseholdIdInAndMonthYearIn(@Param("householdIds") Collection<Integer> householdIds,
+                                                                    @Param("monthYears") Collection<String> monthYears);
     Page<UtilityBill> findByHouseholdIdAndMonthYear(Integer householdId, String monthYear, Pageable pageable);
-} 
\ No newline at end of file
+
+    // Locks the rows of a batch payment, so their paid state cannot change before the update
+    @Query(value = "SELECT id AS id, is_paid AS isPaid FROM utility_bills WHERE id IN (:ids) FOR UPDATE", nativeQuery = true)
+    List<PaidStateView> findPaidStatesForUpdate(@Param("ids") Collection<Integer> ids);
+
+    @Modifying
+    @Query("UPDATE UtilityBill u SET u.isPaid = true, u.paidDate = :paidDate, u.collectedBy = :collectedBy " +
+            "WHERE u.id IN :ids AND u.isPaid = false")
+    int markAllAsPaid(@Param("ids") Collection<Integer> ids, @Param("paidDate") LocalDate paidDate,
+                      @Param("collectedBy") String collectedBy);
+}
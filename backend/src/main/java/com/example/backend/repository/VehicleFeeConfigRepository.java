@@ -3,10 +3,17 @@ package com.example.backend.repository;
 import com.example.backend.model.VehicleFeeConfig;
 import com.example.backend.model.enums.TicketType;
 import com.example.backend.model.enums.VehicleType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import java.util.Optional;
 
 public interface VehicleFeeConfigRepository extends JpaRepository<VehicleFeeConfig, Integer> {
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "reference-queries")
+    })
     Optional<VehicleFeeConfig> findByVehicleTypeAndTicketType(VehicleType vehicleType, TicketType ticketType);
 } 
\ No newline at end of file
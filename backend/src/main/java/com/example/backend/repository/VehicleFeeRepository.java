@@ -1,11 +1,17 @@
 package com.example.backend.repository;
 
+import com.example.backend.dto.projection.PaidStateView;
 import com.example.backend.model.VehicleFee;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -15,4 +21,14 @@ public interface VehicleFeeRepository extends JpaRepository<VehicleFee, Integer>
     boolean existsByVehicleIdAndMonthYear(Integer vehicleId, String monthYear);
     Page<VehicleFee> findByVehicleId(Integer vehicleId, Pageable pageable);
     Page<VehicleFee> findByVehicleIdAndMonthYear(Integer vehicleId, String monthYear, Pageable pageable);
-} 
\ No newline at end of file
+
+    // Locks the rows of a batch payment, so their paid state cannot change before the update
+    @Query(value = "SELECT id AS id, is_paid AS isPaid FROM vehicle_fees WHERE id IN (:ids) FOR UPDATE", nativeQuery = true)
+    List<PaidStateView> findPaidStatesForUpdate(@Param("ids") Collection<Integer> ids);
+
+    @Modifying
+    @Query("UPDATE VehicleFee v SET v.isPaid = true, v.paidDate = :paidDate, v.collectedBy = :collectedBy " +
+            "WHERE v.id IN :ids AND v.isPaid = false")
+    int markAllAsPaid(@Param("ids") Collection<Integer> ids, @Param("paidDate") LocalDate paidDate,
+                      @Param("collectedBy") String collectedBy);
+}
@@ -0,0 +1,12 @@
+package com.example.backend.service;
+
+import com.example.backend.dto.response.CacheRegionStatsResponse;
+
+import java.util.List;
+
+public interface CacheStatisticsService {
+	/**
+	 * Hit, miss and put counts of every second-level cache region since startup
+	 */
+	List<CacheRegionStatsResponse> getRegionStats();
+}
@@ -1,25 +1,37 @@
 package com.example.backend.service;
 
+import com.example.backend.repository.AuthUserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
 
-import java.util.ArrayList;
+import java.util.stream.Collectors;
 
+/**
+ * Loads users for username/password authentication. Requests carrying a JWT never
+ * come through here: {@code JwtAuthenticationFilter} builds their principal from the token claims.
+ */
 @Service
+@RequiredArgsConstructor
 public class CustomUserDetailsService implements UserDetailsService {
 
+	private final AuthUserRepository userRepository;
+
 	@Override
 	public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-		// TODO: Implement actual user loading from database
-		// For now, return a dummy user for testing
+		com.example.backend.model.User user = userRepository.findByUsername(username)
+				.orElseThrow(() -> new UsernameNotFoundException("User not found with username: " + username));
+
 		return new User(
-				"admin",
-				new BCryptPasswordEncoder().encode("admin"),
-				new ArrayList<>()
+				user.getUsername(),
+				user.getPassword(),
+				user.getRoles().stream()
+						.map(role -> new SimpleGrantedAuthority("ROLE_" + role.name()))
+						.collect(Collectors.toSet())
 		);
 	}
-}
\ No newline at end of file
+}
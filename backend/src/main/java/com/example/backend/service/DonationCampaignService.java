@@ -5,11 +5,14 @@ import com.example.backend.dto.response.DonationCampaignResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 public interface DonationCampaignService {
 	DonationCampaignResponse createDonationCampaign(DonationCampaignRequest request);
 	DonationCampaignResponse getDonationCampaignById(Integer id);
+	Map<Integer, DonationCampaignResponse> getDonationCampaignsByIds(Collection<Integer> ids);
 	Page<DonationCampaignResponse> getAllDonationCampaigns(Pageable pageable);
 	List<DonationCampaignResponse> getActiveDonationCampaigns();
 	DonationCampaignResponse updateDonationCampaign(Integer id, DonationCampaignRequest request);
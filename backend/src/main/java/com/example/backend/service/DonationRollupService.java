@@ -0,0 +1,29 @@
+package com.example.backend.service;
+
+import com.example.backend.model.Donation;
+
+import java.time.LocalDate;
+
+public interface DonationRollupService {
+	/**
+	 * Adds a newly created donation to its monthly bucket. Must run in the transaction that saved it.
+	 *
+	 * @param donation The saved donation
+	 */
+	void addDonation(Donation donation);
+
+	/**
+	 * Recomputes the bucket of one campaign and month from the donations table, after an update or delete
+	 *
+	 * @param donationDate Any date in the month of the bucket
+	 * @param campaignId The ID of the campaign
+	 */
+	void refreshBucket(LocalDate donationDate, Integer campaignId);
+
+	/**
+	 * Rebuilds the whole rollup from the donations table
+	 *
+	 * @return Number of buckets written
+	 */
+	int rebuild();
+}
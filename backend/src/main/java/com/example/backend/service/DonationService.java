@@ -4,8 +4,12 @@ import com.example.backend.dto.request.DonationRequest;
 import com.example.backend.dto.response.DonationResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 public interface DonationService {
 	DonationResponse createDonation(DonationRequest request);
@@ -13,6 +17,9 @@ public interface DonationService {
 	Page<DonationResponse> getAllDonations(Pageable pageable);
 	List<DonationResponse> getDonationsByHousehold(Integer householdId);
 	List<DonationResponse> getDonationsByCampaign(Integer campaignId);
+	Map<Integer, List<DonationResponse>> getDonationsByCampaigns(Collection<Integer> campaignIds);
+	Window<DonationResponse> getDonationsByHousehold(Integer householdId, ScrollPosition position, int size);
+	Window<DonationResponse> getDonationsByCampaign(Integer campaignId, ScrollPosition position, int size);
 	DonationResponse updateDonation(Integer id, DonationRequest request);
 	void deleteDonation(Integer id);
 }
\ No newline at end of file
@@ -1,45 +1,90 @@
 package com.example.backend.service;
 
-import jakarta.mail.MessagingException;
-import jakarta.mail.internet.MimeMessage;
+import com.example.backend.exception.BadRequestException;
+import com.example.backend.exception.ResourceNotFoundException;
+import com.example.backend.model.EmailOutbox;
+import com.example.backend.model.enums.EmailStatus;
+import com.example.backend.repository.EmailOutboxRepository;
+import com.example.backend.service.impl.EmailOutboxDispatcher;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
-import java.lang.module.Configuration;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
 
 @Service
 @Slf4j
+@RequiredArgsConstructor
 public class EmailService {
-	@Autowired
-	private JavaMailSender javaMailSender;
+	private final EmailOutboxRepository emailOutboxRepository;
+	private final EmailOutboxDispatcher emailOutboxDispatcher;
 
 	/**
-	 * Sends an email with optional HTML content and attachment.
+	 * Queues an email with optional HTML content. The message is written to the outbox in the
+	 * caller's transaction and delivered by {@link EmailOutboxDispatcher} once it commits, so
+	 * the caller never waits on SMTP and a rolled back request sends nothing.
 	 *
 	 * @param to      The recipient's email address.
 	 * @param subject The subject of the email.
 	 * @param text    The body of the email, can be HTML or plain text.
 	 * @param isHtml  Whether the email body is HTML or plain text.
 	 */
+	@Transactional
 	public void sendEmail(String to, String subject, String text, boolean isHtml) {
-		try {
-			MimeMessage message = javaMailSender.createMimeMessage();
-			MimeMessageHelper helper = new MimeMessageHelper(message, true);
+		EmailOutbox email = emailOutboxRepository.save(EmailOutbox.builder()
+				.recipient(to)
+				.subject(subject)
+				.body(text)
+				.html(isHtml)
+				.status(EmailStatus.PENDING)
+				.attempts(0)
+				.nextAttemptAt(LocalDateTime.now())
+				.build());
+		log.info("Email {} to {} queued", email.getId(), to);
 
-			helper.setTo(to);
-			helper.setSubject(subject);
-			helper.setText(text, isHtml);
+		wakeDispatcherAfterCommit();
+	}
 
-			javaMailSender.send(message);
-			log.info("Email sent successfully to {}", to);
+	/**
+	 * Number of outbox messages in each state.
+	 */
+	public Map<EmailStatus, Long> getOutboxStats() {
+		Map<EmailStatus, Long> stats = new EnumMap<>(EmailStatus.class);
+		for (EmailStatus status : EmailStatus.values()) {
+			stats.put(status, 0L);
+		}
+		for (Object[] row : emailOutboxRepository.countByStatus()) {
+			stats.put((EmailStatus) row[0], (Long) row[1]);
+		}
+		return stats;
+	}
 
-		} catch (MessagingException e) {
-			log.error("Failed to send email to {}", to, e);
-			// Handle the exception (retry logic, save to dlq...)
+	/**
+	 * Puts a dead message back in the queue with a fresh set of attempts.
+	 */
+	@Transactional
+	public void retryDeadEmail(Long id) {
+		EmailOutbox email = emailOutboxRepository.findById(id)
+				.orElseThrow(() -> new ResourceNotFoundException("Email not found with id: " + id));
+		if (email.getStatus() != EmailStatus.DEAD) {
+			throw new BadRequestException("Only dead emails can be retried, email " + id + " is " + email.getStatus());
 		}
+
+		emailOutboxRepository.requeueDead(id, LocalDateTime.now());
+		wakeDispatcherAfterCommit();
 	}
 
+	private void wakeDispatcherAfterCommit() {
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				emailOutboxDispatcher.wakeUp();
+			}
+		});
+	}
 }
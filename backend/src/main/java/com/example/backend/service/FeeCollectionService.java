@@ -1,10 +1,13 @@
 package com.example.backend.service;
 
+import com.example.backend.dto.request.ExportFormat;
 import com.example.backend.dto.request.FeeCollectionRequest;
 import com.example.backend.dto.response.FeeCollectionResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.YearMonth;
 import java.util.List;
 import java.util.Map;
@@ -18,13 +21,17 @@ public interface FeeCollectionService {
 	List<FeeCollectionResponse> getFeeCollectionsByYearMonth(YearMonth yearMonth);
 	Page<FeeCollectionResponse> getFeeCollectionsByYearMonthPaginated(YearMonth yearMonth, Pageable pageable);
 	List<FeeCollectionResponse> getUnpaidFeesByYearMonth(YearMonth yearMonth);
+
+	/**
+	 * Writes every fee collection of the month to the stream as it is read from the database
+	 *
+	 * @return Number of rows written
+	 */
+	long exportFeeCollectionsByYearMonth(YearMonth yearMonth, ExportFormat format, OutputStream out) throws IOException;
 	FeeCollectionResponse updateFeeCollection(Integer id, FeeCollectionRequest request);
 	FeeCollectionResponse markAsPaid(Integer id, String collectedBy);
 	void deleteFeeCollection(Integer id);
 
-	// Generate collection for all households
-	void generateMonthlyFeeCollectionsForAllHouseholds(YearMonth yearMonth);
-
 	// Get stats
 	Double getTotalCollectedAmountByYearMonth(YearMonth yearMonth);
 	Double getTotalExpectedAmountByYearMonth(YearMonth yearMonth);
@@ -0,0 +1,41 @@
+package com.example.backend.service;
+
+import com.example.backend.dto.response.FeeGenerationJobResponse;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.time.YearMonth;
+
+public interface FeeGenerationJobService {
+	/**
+	 * Creates a background job generating the monthly fee collections of every household
+	 *
+	 * @param yearMonth The month to generate fee collections for
+	 * @return The newly created job
+	 */
+	FeeGenerationJobResponse startMonthlyGeneration(YearMonth yearMonth);
+
+	/**
+	 * Gets a generation job with its progress
+	 *
+	 * @param id The ID of the job
+	 * @return The job response
+	 */
+	FeeGenerationJobResponse getJobById(Integer id);
+
+	/**
+	 * Gets all generation jobs, newest first
+	 *
+	 * @param pageable Pagination information
+	 * @return Page of job responses
+	 */
+	Page<FeeGenerationJobResponse> getAllJobs(Pageable pageable);
+
+	/**
+	 * Resubmits a failed job; it continues from its last checkpoint
+	 *
+	 * @param id The ID of the job
+	 * @return The resumed job
+	 */
+	FeeGenerationJobResponse resumeJob(Integer id);
+}
@@ -0,0 +1,42 @@
+package com.example.backend.service;
+
+import com.example.backend.dto.response.FeeReminderRunResponse;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.time.YearMonth;
+
+public interface FeeReminderService {
+	/**
+	 * Starts a background run queueing a reminder email to every household with unpaid
+	 * fee collections, utility bills or vehicle fees up to the given month
+	 *
+	 * @param yearMonth The last month whose unpaid items are included
+	 * @return The newly created run
+	 */
+	FeeReminderRunResponse startReminderRun(YearMonth yearMonth);
+
+	/**
+	 * Gets a reminder run with its progress
+	 *
+	 * @param id The ID of the run
+	 * @return The run response
+	 */
+	FeeReminderRunResponse getRunById(Integer id);
+
+	/**
+	 * Gets all reminder runs, newest first
+	 *
+	 * @param pageable Pagination information
+	 * @return Page of run responses
+	 */
+	Page<FeeReminderRunResponse> getAllRuns(Pageable pageable);
+
+	/**
+	 * Resubmits a failed run; it continues after the last household it queued
+	 *
+	 * @param id The ID of the run
+	 * @return The resumed run
+	 */
+	FeeReminderRunResponse resumeRun(Integer id);
+}
@@ -1,10 +1,11 @@
 package com.example.backend.service;
 
+import com.example.backend.dto.response.CursorPage;
 import com.example.backend.dto.response.HistoryRecordResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
-import java.util.List;
+import java.util.Collection;
 
 public interface HistoryRecordService {
 	/**
@@ -16,6 +17,15 @@ public interface HistoryRecordService {
 	 */
 	void recordAction(String entityType, Integer entityId, String actionType);
 
+	/**
+	 * Records the same action performed on several entities of one type
+	 *
+	 * @param entityType The type of entity
+	 * @param entityIds The IDs of the entities
+	 * @param actionType The type of action (CREATE, UPDATE, DELETE)
+	 */
+	void recordActions(String entityType, Collection<Integer> entityIds, String actionType);
+
 	/**
 	 * Gets a history record by its ID
 	 *
@@ -25,16 +35,19 @@ public interface HistoryRecordService {
 	HistoryRecordResponse getHistoryRecordById(Integer id);
 
 	/**
-	 * Gets all history records for a specific entity
+	 * Gets the live history records for a specific entity, newest first, with pagination.
+	 * Use {@link #getHistoryByEntityAndIdByCursor} to page through archived records as well.
 	 *
 	 * @param entityType The type of entity
 	 * @param entityId The ID of the entity
-	 * @return List of history record responses
+	 * @param pageable Pagination information; the page size is capped
+	 * @return Page of history record responses
 	 */
-	List<HistoryRecordResponse> getHistoryByEntityAndId(String entityType, Integer entityId);
+	Page<HistoryRecordResponse> getHistoryByEntityAndId(String entityType, Integer entityId, Pageable pageable);
 
 	/**
-	 * Gets all history records with pagination
+	 * Gets the history records still in the live table (the retention window) with pagination.
+	 * Use {@link #getHistoryRecordsByCursor} to page through archived records as well.
 	 *
 	 * @param pageable Pagination information
 	 * @return Page of history record responses
@@ -42,18 +55,61 @@ public interface HistoryRecordService {
 	Page<HistoryRecordResponse> getAllHistoryRecords(Pageable pageable);
 
 	/**
-	 * Gets all history records for a specific entity type
+	 * Gets the live history records for a specific entity type, newest first, with pagination
+	 *
+	 * @param entityType The type of entity
+	 * @param pageable Pagination information; the page size is capped
+	 * @return Page of history record responses
+	 */
+	Page<HistoryRecordResponse> getHistoryByEntityType(String entityType, Pageable pageable);
+
+	/**
+	 * Gets the live history records for a specific action type, newest first, with pagination
+	 *
+	 * @param actionType The type of action
+	 * @param pageable Pagination information; the page size is capped
+	 * @return Page of history record responses
+	 */
+	Page<HistoryRecordResponse> getHistoryByActionType(String actionType, Pageable pageable);
+
+	/**
+	 * Gets history records newest first using keyset pagination
+	 *
+	 * @param cursor The continuation token of the previous page, or null for the first page
+	 * @param size The page size
+	 * @return Page of history record responses with the token of the next page
+	 */
+	CursorPage<HistoryRecordResponse> getHistoryRecordsByCursor(String cursor, int size);
+
+	/**
+	 * Gets history records for a specific entity newest first using keyset pagination.
+	 * Archived records are only read once the cursor has moved past the live ones.
+	 *
+	 * @param entityType The type of entity
+	 * @param entityId The ID of the entity
+	 * @param cursor The continuation token of the previous page, or null for the first page
+	 * @param size The page size
+	 * @return Page of history record responses with the token of the next page
+	 */
+	CursorPage<HistoryRecordResponse> getHistoryByEntityAndIdByCursor(String entityType, Integer entityId, String cursor, int size);
+
+	/**
+	 * Gets history records for a specific entity type newest first using keyset pagination
 	 *
 	 * @param entityType The type of entity
-	 * @return List of history record responses
+	 * @param cursor The continuation token of the previous page, or null for the first page
+	 * @param size The page size
+	 * @return Page of history record responses with the token of the next page
 	 */
-	List<HistoryRecordResponse> getHistoryByEntityType(String entityType);
+	CursorPage<HistoryRecordResponse> getHistoryByEntityTypeByCursor(String entityType, String cursor, int size);
 
 	/**
-	 * Gets all history records for a specific action type
+	 * Gets history records for a specific action type newest first using keyset pagination
 	 *
 	 * @param actionType The type of action
-	 * @return List of history record responses
+	 * @param cursor The continuation token of the previous page, or null for the first page
+	 * @param size The page size
+	 * @return Page of history record responses with the token of the next page
 	 */
-	List<HistoryRecordResponse> getHistoryByActionType(String actionType);
+	CursorPage<HistoryRecordResponse> getHistoryByActionTypeByCursor(String actionType, String cursor, int size);
 }
\ No newline at end of file
@@ -0,0 +1,56 @@
+package com.example.backend.service;
+
+import com.example.backend.dto.response.DonationResponse;
+import com.example.backend.dto.response.FeeCollectionResponse;
+import com.example.backend.dto.response.PopulationChangeResponse;
+import com.example.backend.dto.response.ResidentResponse;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Loads the child collections of many households at once, one {@code IN (...)} query
+ * per association, so mapping a page of households costs a fixed number of queries.
+ */
+public interface HouseholdBatchLoader {
+	/**
+	 * Loads the residents of the given households
+	 *
+	 * @param householdIds The IDs of the households
+	 * @return Residents grouped by household ID; households without residents are absent
+	 */
+	Map<Integer, List<ResidentResponse>> loadResidents(Collection<Integer> householdIds);
+
+	/**
+	 * Counts the residents of the given households without loading them
+	 *
+	 * @param householdIds The IDs of the households
+	 * @return Resident counts by household ID; households without residents are absent
+	 */
+	Map<Integer, Integer> countResidents(Collection<Integer> householdIds);
+
+	/**
+	 * Loads the donations of the given households
+	 *
+	 * @param householdIds The IDs of the households
+	 * @return Donations grouped by household ID; households without donations are absent
+	 */
+	Map<Integer, List<DonationResponse>> loadDonations(Collection<Integer> householdIds);
+
+	/**
+	 * Loads the fee collections of the given households
+	 *
+	 * @param householdIds The IDs of the households
+	 * @return Fee collections grouped by household ID; households without fee collections are absent
+	 */
+	Map<Integer, List<FeeCollectionResponse>> loadFeeCollections(Collection<Integer> householdIds);
+
+	/**
+	 * Loads the population changes of the given households
+	 *
+	 * @param householdIds The IDs of the households
+	 * @return Population changes grouped by household ID; households without changes are absent
+	 */
+	Map<Integer, List<PopulationChangeResponse>> loadPopulationChanges(Collection<Integer> householdIds);
+}
@@ -0,0 +1,48 @@
+package com.example.backend.service;
+
+import com.example.backend.dto.response.SearchIndexStatsResponse;
+
+import java.util.List;
+
+/**
+ * In-memory trigram index over household code, apartment, owner name, address and resident names.
+ */
+public interface HouseholdSearchIndex {
+	/**
+	 * Ranked household IDs matching a keyword
+	 *
+	 * @param ids IDs of the best matches, best first, at most the requested limit
+	 * @param totalMatches Number of households matching in total
+	 */
+	record SearchHits(List<Integer> ids, int totalMatches) {
+	}
+
+	/**
+	 * Whether the index has been loaded; until then callers should search the database
+	 */
+	boolean isReady();
+
+	/**
+	 * Finds the households best matching a keyword, ignoring case and accents
+	 *
+	 * @param keyword The search keyword
+	 * @param limit Maximum number of IDs to return
+	 * @return The best matches and the total number of matches
+	 */
+	SearchHits search(String keyword, int limit);
+
+	/**
+	 * Reloads the whole index from the database
+	 */
+	void rebuild();
+
+	void onHouseholdSaved(Integer id, String householdCode, String apartmentNumber, String ownerName, String address);
+
+	void onHouseholdDeleted(Integer id);
+
+	void onResidentSaved(Integer id, Integer householdId, String fullName);
+
+	void onResidentDeleted(Integer id);
+
+	SearchIndexStatsResponse getStats();
+}
@@ -1,18 +1,33 @@
 package com.example.backend.service;
 
+import com.example.backend.dto.projection.HouseholdInclude;
 import com.example.backend.dto.request.HouseholdRequest;
 import com.example.backend.dto.response.*;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 public interface HouseholdService {
 	HouseholdResponse createHousehold(HouseholdRequest request);
 	HouseholdResponse getHouseholdById(Integer id);
+	HouseholdResponse getHouseholdById(Integer id, Set<HouseholdInclude> includes);
 	HouseholdResponse getHouseholdByCode(String householdCode);
+	HouseholdResponse getHouseholdByCode(String householdCode, Set<HouseholdInclude> includes);
+	Map<Integer, HouseholdResponse> getHouseholdsByIds(Collection<Integer> ids);
 	Page<HouseholdResponse> getAllHouseholds(Pageable pageable);
+	Page<HouseholdResponse> getAllHouseholds(Pageable pageable, Set<HouseholdInclude> includes);
 	HouseholdResponse updateHousehold(Integer id, HouseholdRequest request);
 	void deleteHousehold(Integer id);
 	List<HouseholdResponse> searchHouseholds(String keyword);
+	List<HouseholdResponse> searchHouseholds(String keyword, Set<HouseholdInclude> includes);
+	Page<HouseholdResponse> searchHouseholds(String keyword, Pageable pageable, Set<HouseholdInclude> includes);
+	Window<HouseholdResponse> searchHouseholds(String keyword, ScrollPosition position, int size);
+	SearchIndexStatsResponse getSearchIndexStats();
+	SearchIndexStatsResponse rebuildSearchIndex();
 }
\ No newline at end of file
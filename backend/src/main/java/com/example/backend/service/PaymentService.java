@@ -0,0 +1,15 @@
+package com.example.backend.service;
+
+import com.example.backend.dto.request.BatchPaymentRequest;
+import com.example.backend.dto.response.BatchPaymentResponse;
+
+public interface PaymentService {
+	/**
+	 * Marks fee collections, utility bills and vehicle fees as paid in one transaction,
+	 * with one locking read and one update per bill kind
+	 *
+	 * @param request The ids of each bill kind and who collected the payment
+	 * @return The outcome of every requested id
+	 */
+	BatchPaymentResponse markAsPaid(BatchPaymentRequest request);
+}
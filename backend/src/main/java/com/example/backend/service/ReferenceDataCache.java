@@ -0,0 +1,43 @@
+package com.example.backend.service;
+
+import com.example.backend.dto.response.ReferenceDataCacheStatsResponse;
+import com.example.backend.model.FeeType;
+import com.example.backend.model.enums.TicketType;
+import com.example.backend.model.enums.VehicleType;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * In-memory snapshots of the small, rarely changing reference tables read on every fee write:
+ * fee types and vehicle fee prices. A snapshot is loaded on first use and dropped after any write
+ * to its table commits.
+ */
+public interface ReferenceDataCache {
+	/**
+	 * Finds a fee type by ID. The returned entity is shared and detached; it must not be modified.
+	 */
+	Optional<FeeType> getFeeType(Integer id);
+
+	/**
+	 * Fee types generated for every household each month
+	 */
+	List<FeeType> getRequiredFeeTypes();
+
+	/**
+	 * Finds the configured price of a vehicle ticket
+	 */
+	Optional<Double> getVehicleFeePrice(VehicleType vehicleType, TicketType ticketType);
+
+	/**
+	 * Drops the fee type snapshot once the current transaction commits
+	 */
+	void invalidateFeeTypes();
+
+	/**
+	 * Drops the vehicle fee price snapshot once the current transaction commits
+	 */
+	void invalidateVehicleFeeConfigs();
+
+	ReferenceDataCacheStatsResponse getStats();
+}
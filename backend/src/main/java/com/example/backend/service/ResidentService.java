@@ -14,5 +14,5 @@ public interface ResidentService {
 	List<ResidentResponse> getResidentsByHousehold(Integer householdId);
 	ResidentResponse updateResident(Integer id, ResidentRequest request);
 	void deleteResident(Integer id);
-	List<ResidentResponse> searchResidents(String keyword);
+	Page<ResidentResponse> searchResidents(String keyword, Pageable pageable);
 }
\ No newline at end of file
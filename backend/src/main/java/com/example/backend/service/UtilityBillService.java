@@ -1,10 +1,14 @@
 package com.example.backend.service;
 
 import com.example.backend.dto.request.UtilityBillRequest;
+import com.example.backend.dto.response.UtilityBillImportResponse;
 import com.example.backend.dto.response.UtilityBillResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.io.IOException;
+import java.io.InputStream;
+
 public interface UtilityBillService {
     Page<UtilityBillResponse> getUtilityBills(Pageable pageable);
     Page<UtilityBillResponse> getUtilityBillsByHousehold(Integer householdId, Pageable pageable);
@@ -14,4 +18,5 @@ public interface UtilityBillService {
     UtilityBillResponse updateUtilityBill(Integer id, UtilityBillRequest request);
     void deleteUtilityBill(Integer id);
     UtilityBillResponse markAsPaid(Integer id);
+    UtilityBillImportResponse importUtilityBills(InputStream csv, String monthYear) throws IOException;
 } 
\ No newline at end of file
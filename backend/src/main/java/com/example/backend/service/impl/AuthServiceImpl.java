@@ -15,6 +15,7 @@ import com.example.backend.utils.JwtUtil;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.Set;
@@ -98,6 +99,7 @@ public class AuthServiceImpl implements AuthService {
 	}
 
 	@Override
+	@Transactional
 	public AuthResponse forgotPassword(ForgotPasswordRequest request) {
 		User user = userRepository.findByUsername(request.getUsername())
 				.orElseThrow(() -> new AuthException("Username or email is invalid"));
@@ -114,6 +116,7 @@ public class AuthServiceImpl implements AuthService {
 		String body = String.format("Hello %s,\n\nYour reset code is: %s\n\nUse this code to reset your password.",
 				user.getUsername(), resetCode);
 
+		// Queued with the reset code, so the email only goes out if the code is saved
 		emailService.sendEmail(user.getEmail(), subject, body, false);
 
 		return AuthResponse.builder()
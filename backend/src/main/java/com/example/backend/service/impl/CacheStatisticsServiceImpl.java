@@ -0,0 +1,48 @@
+package com.example.backend.service.impl;
+
+import com.example.backend.dto.response.CacheRegionStatsResponse;
+import com.example.backend.service.CacheStatisticsService;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+@Service
+@RequiredArgsConstructor
+public class CacheStatisticsServiceImpl implements CacheStatisticsService {
+
+	private final EntityManagerFactory entityManagerFactory;
+
+	@Override
+	public List<CacheRegionStatsResponse> getRegionStats() {
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		return Arrays.stream(statistics.getSecondLevelCacheRegionNames())
+				.sorted()
+				.map(region -> toResponse(region, statistics.getCacheRegionStatistics(region)))
+				.filter(Objects::nonNull)
+				.toList();
+	}
+
+	private static CacheRegionStatsResponse toResponse(String region, CacheRegionStatistics regionStatistics) {
+		if (regionStatistics == null) {
+			return null;
+		}
+
+		long hits = regionStatistics.getHitCount();
+		long misses = regionStatistics.getMissCount();
+		return CacheRegionStatsResponse.builder()
+				.region(region)
+				.hitCount(hits)
+				.missCount(misses)
+				.putCount(regionStatistics.getPutCount())
+				.elementCountInMemory(regionStatistics.getElementCountInMemory())
+				.hitRatio(hits + misses > 0 ? (double) hits / (hits + misses) : 0.0)
+				.build();
+	}
+}
@@ -11,6 +11,8 @@ import com.example.backend.service.DonationCampaignService;
 import com.example.backend.service.HistoryRecordService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.Authentication;
@@ -19,7 +21,10 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -45,6 +50,8 @@ public class DonationCampaignServiceImpl implements DonationCampaignService {
 				.startDate(request.getStartDate())
 				.endDate(request.getEndDate())
 				.targetAmount(request.getTargetAmount())
+				.totalDonated(0.0)
+				.donorCount(0)
 				.createdBy(getCurrentUsername())
 				.build();
 
@@ -63,6 +70,13 @@ public class DonationCampaignServiceImpl implements DonationCampaignService {
 				.orElseThrow(() -> new ResourceNotFoundException("Donation campaign not found with id: " + id));
 	}
 
+	@Override
+	public Map<Integer, DonationCampaignResponse> getDonationCampaignsByIds(Collection<Integer> ids) {
+		return donationCampaignRepository.findAllById(ids).stream()
+				.map(this::mapToDonationCampaignResponse)
+				.collect(Collectors.toMap(DonationCampaignResponse::getId, Function.identity()));
+	}
+
 	@Override
 	public Page<DonationCampaignResponse> getAllDonationCampaigns(Pageable pageable) {
 		return donationCampaignRepository.findAll(pageable)
@@ -116,8 +130,7 @@ public class DonationCampaignServiceImpl implements DonationCampaignService {
 				.orElseThrow(() -> new ResourceNotFoundException("Donation campaign not found with id: " + id));
 
 		// Check if there are donations for this campaign
-		Double donationAmount = donationRepository.getTotalDonationAmountByCampaignId(id);
-		if (donationAmount != null && donationAmount > 0) {
+		if (donationRepository.existsByDonationCampaignId(id)) {
 			throw new BadRequestException("Cannot delete campaign that has donations");
 		}
 
@@ -128,19 +141,14 @@ public class DonationCampaignServiceImpl implements DonationCampaignService {
 	}
 
 	private DonationCampaignResponse mapToDonationCampaignResponse(DonationCampaign campaign) {
-		// Get total donated amount
-		Double totalDonated = donationRepository.getTotalDonationAmountByCampaignId(campaign.getId());
-		if (totalDonated == null) {
-			totalDonated = 0.0;
-		}
+		// Totals are maintained on the campaign row, so mapping needs no extra query
+		Double totalDonated = campaign.getTotalDonated() != null ? campaign.getTotalDonated() : 0.0;
 
 		// Calculate remaining amount
 		Double remainingAmount = campaign.getTargetAmount() != null ?
 				campaign.getTargetAmount() - totalDonated : null;
 
-		// Count donors
-		Integer totalDonors = campaign.getDonations() != null ?
-				campaign.getDonations().size() : 0;
+		Integer totalDonors = campaign.getDonorCount() != null ? campaign.getDonorCount() : 0;
 
 		// Check if campaign is active
 		Boolean isActive = campaign.getEndDate() == null ||
@@ -162,6 +170,15 @@ public class DonationCampaignServiceImpl implements DonationCampaignService {
 				.build();
 	}
 
+	@EventListener(ApplicationReadyEvent.class)
+	@Transactional
+	public void backfillCampaignTotals() {
+		int updated = donationCampaignRepository.backfillTotals();
+		if (updated > 0) {
+			log.info("Backfilled donation totals of {} campaigns", updated);
+		}
+	}
+
 	private String getCurrentUsername() {
 		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
 		if (authentication == null || !authentication.isAuthenticated()) {
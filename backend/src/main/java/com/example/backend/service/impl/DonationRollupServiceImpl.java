@@ -0,0 +1,68 @@
+package com.example.backend.service.impl;
+
+import com.example.backend.model.Donation;
+import com.example.backend.repository.DonationMonthlyRollupRepository;
+import com.example.backend.repository.DonationRepository;
+import com.example.backend.service.DonationRollupService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DonationRollupServiceImpl implements DonationRollupService {
+
+	private final DonationMonthlyRollupRepository rollupRepository;
+	private final DonationRepository donationRepository;
+
+	@Override
+	@Transactional
+	public void addDonation(Donation donation) {
+		if (donation.getDonationDate() == null) {
+			return;
+		}
+		// Atomic upsert, so concurrent donations to the same bucket never lose an update
+		rollupRepository.addDonation(donation.getDonationDate().getYear(), donation.getDonationDate().getMonthValue(),
+				donation.getDonationCampaign().getId(), donation.getAmount());
+	}
+
+	@Override
+	@Transactional
+	public void refreshBucket(LocalDate donationDate, Integer campaignId) {
+		if (donationDate == null) {
+			return;
+		}
+		// The recompute reads the donations table, so pending changes must reach it first
+		donationRepository.flush();
+
+		YearMonth month = YearMonth.from(donationDate);
+		rollupRepository.deleteBucket(month.getYear(), month.getMonthValue(), campaignId);
+		rollupRepository.insertBucketFromDonations(month.getYear(), month.getMonthValue(), campaignId,
+				month.atDay(1), month.atEndOfMonth());
+	}
+
+	@Override
+	@Transactional
+	public int rebuild() {
+		rollupRepository.deleteAllBuckets();
+		int buckets = rollupRepository.insertAllBucketsFromDonations();
+		log.info("Rebuilt donation monthly rollup: {} buckets", buckets);
+		return buckets;
+	}
+
+	// Backfill once when the rollup table is introduced on an existing database
+	@EventListener(ApplicationReadyEvent.class)
+	@Transactional
+	public void backfillIfEmpty() {
+		if (rollupRepository.count() == 0 && donationRepository.count() > 0) {
+			rebuild();
+		}
+	}
+}
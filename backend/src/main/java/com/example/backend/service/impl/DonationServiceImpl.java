@@ -10,19 +10,28 @@ import com.example.backend.model.Household;
 import com.example.backend.repository.DonationCampaignRepository;
 import com.example.backend.repository.DonationRepository;
 import com.example.backend.repository.HouseholdRepository;
+import com.example.backend.service.DonationRollupService;
 import com.example.backend.service.DonationService;
 import com.example.backend.service.HistoryRecordService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -30,10 +39,13 @@ import java.util.stream.Collectors;
 @Slf4j
 public class DonationServiceImpl implements DonationService {
 
+	private static final int MAX_WINDOW_SIZE = 100;
+
 	private final DonationRepository donationRepository;
 	private final HouseholdRepository householdRepository;
 	private final DonationCampaignRepository donationCampaignRepository;
 	private final HistoryRecordService historyRecordService;
+	private final DonationRollupService donationRollupService;
 
 	@Override
 	@Transactional
@@ -44,6 +56,7 @@ public class DonationServiceImpl implements DonationService {
 
 		DonationCampaign campaign = donationCampaignRepository.findById(request.getDonationCampaignId())
 				.orElseThrow(() -> new ResourceNotFoundException("Donation campaign not found with id: " + request.getDonationCampaignId()));
+		donationCampaignRepository.lockForDonationWrite(campaign.getId());
 
 		// Check if campaign is active
 		if (campaign.getEndDate() != null && campaign.getEndDate().isBefore(LocalDate.now())) {
@@ -63,6 +76,8 @@ public class DonationServiceImpl implements DonationService {
 				.build();
 
 		donation = donationRepository.save(donation);
+		donationRollupService.addDonation(donation);
+		adjustCampaignTotals(donation, donation.getAmount(), 1);
 
 		// Record history
 		historyRecordService.recordAction("Donation", donation.getId(), "CREATE");
@@ -89,7 +104,7 @@ public class DonationServiceImpl implements DonationService {
 			throw new ResourceNotFoundException("Household not found with id: " + householdId);
 		}
 
-		return donationRepository.findByHouseholdId(householdId).stream()
+		return donationRepository.findByHouseholdIdIn(List.of(householdId)).stream()
 				.map(this::mapToDonationResponse)
 				.collect(Collectors.toList());
 	}
@@ -100,21 +115,56 @@ public class DonationServiceImpl implements DonationService {
 			throw new ResourceNotFoundException("Donation campaign not found with id: " + campaignId);
 		}
 
-		return donationRepository.findByDonationCampaignId(campaignId).stream()
+		return donationRepository.findByDonationCampaignIdIn(List.of(campaignId)).stream()
 				.map(this::mapToDonationResponse)
 				.collect(Collectors.toList());
 	}
 
+	@Override
+	public Window<DonationResponse> getDonationsByHousehold(Integer householdId, ScrollPosition position, int size) {
+		if (!householdRepository.existsById(householdId)) {
+			throw new ResourceNotFoundException("Household not found with id: " + householdId);
+		}
+
+		return donationRepository.findByHouseholdIdOrderByIdAsc(householdId, position, limit(size))
+				.map(this::mapToDonationResponse);
+	}
+
+	@Override
+	public Window<DonationResponse> getDonationsByCampaign(Integer campaignId, ScrollPosition position, int size) {
+		if (!donationCampaignRepository.existsById(campaignId)) {
+			throw new ResourceNotFoundException("Donation campaign not found with id: " + campaignId);
+		}
+
+		return donationRepository.findByDonationCampaignIdOrderByIdAsc(campaignId, position, limit(size))
+				.map(this::mapToDonationResponse);
+	}
+
+	@Override
+	public Map<Integer, List<DonationResponse>> getDonationsByCampaigns(Collection<Integer> campaignIds) {
+		if (campaignIds.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		return donationRepository.findByDonationCampaignIdIn(campaignIds).stream()
+				.map(this::mapToDonationResponse)
+				.collect(Collectors.groupingBy(DonationResponse::getDonationCampaignId, LinkedHashMap::new, Collectors.toList()));
+	}
+
 	@Override
 	@Transactional
 	public DonationResponse updateDonation(Integer id, DonationRequest request) {
 		Donation donation = donationRepository.findById(id)
 				.orElseThrow(() -> new ResourceNotFoundException("Donation not found with id: " + id));
+		donationCampaignRepository.lockForDonationWrite(donation.getDonationCampaign().getId());
 
 		// Store old values for history
 		String oldValues = "Amount: " + donation.getAmount() +
 				", DonationDate: " + donation.getDonationDate();
 
+		LocalDate oldDonationDate = donation.getDonationDate();
+		Double oldAmount = donation.getAmount();
+
 		// Can only update amount and donation date
 		donation.setAmount(request.getAmount());
 
@@ -123,6 +173,14 @@ public class DonationServiceImpl implements DonationService {
 		}
 
 		donation = donationRepository.save(donation);
+		adjustCampaignTotals(donation, donation.getAmount() - oldAmount, 0);
+
+		// Recompute the affected monthly buckets
+		Integer campaignId = donation.getDonationCampaign().getId();
+		donationRollupService.refreshBucket(donation.getDonationDate(), campaignId);
+		if (oldDonationDate != null && !YearMonth.from(oldDonationDate).equals(YearMonth.from(donation.getDonationDate()))) {
+			donationRollupService.refreshBucket(oldDonationDate, campaignId);
+		}
 
 		// Record history
 		historyRecordService.recordAction("Donation", donation.getId(), "UPDATE");
@@ -135,13 +193,38 @@ public class DonationServiceImpl implements DonationService {
 	public void deleteDonation(Integer id) {
 		Donation donation = donationRepository.findById(id)
 				.orElseThrow(() -> new ResourceNotFoundException("Donation not found with id: " + id));
+		donationCampaignRepository.lockForDonationWrite(donation.getDonationCampaign().getId());
 
 		donationRepository.deleteById(id);
+		adjustCampaignTotals(donation, -donation.getAmount(), -1);
+		donationRollupService.refreshBucket(donation.getDonationDate(), donation.getDonationCampaign().getId());
 
 		// Record history
 		historyRecordService.recordAction("Donation", id, "DELETE");
 	}
 
+	/**
+	 * Applies a donation write to the campaign's maintained totals. Callers lock the campaign row with
+	 * {@link DonationCampaignRepository#lockForDonationWrite} before writing the donation, so donation
+	 * writes to one campaign are serialized and the distinct donor check cannot race another one.
+	 *
+	 * @param donorChange 1 when the donation was added, -1 when removed, 0 when only the amount changed
+	 */
+	private void adjustCampaignTotals(Donation donation, Double amountDelta, int donorChange) {
+		Integer campaignId = donation.getDonationCampaign().getId();
+		donationCampaignRepository.adjustTotals(campaignId, amountDelta, 0);
+
+		if (donorChange != 0 && donationRepository.countOtherDonationsForUpdate(
+				donation.getHousehold().getId(), campaignId, donation.getId()) == 0) {
+			// First donation of this household to the campaign, or its last one removed
+			donationCampaignRepository.adjustTotals(campaignId, 0.0, donorChange);
+		}
+	}
+
+	private static Limit limit(int size) {
+		return Limit.of(Math.max(1, Math.min(size, MAX_WINDOW_SIZE)));
+	}
+
 	private DonationResponse mapToDonationResponse(Donation donation) {
 		Household household = donation.getHousehold();
 		DonationCampaign campaign = donation.getDonationCampaign();
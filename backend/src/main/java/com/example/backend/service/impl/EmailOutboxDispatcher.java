@@ -0,0 +1,245 @@
+package com.example.backend.service.impl;
+
+import com.example.backend.model.EmailOutbox;
+import com.example.backend.model.enums.EmailStatus;
+import com.example.backend.repository.EmailOutboxRepository;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Delivers the messages queued in {@code email_outbox}.
+ * <ul>
+ *     <li>Each worker claims a batch of due rows with {@code FOR UPDATE SKIP LOCKED}, so workers never
+ *     pick the same message, and marks them SENDING under a lease before the lock is released.</li>
+ *     <li>A batch goes out through a single {@link JavaMailSender#send(MimeMessage...)} call, which opens
+ *     one SMTP connection for the whole batch instead of one per message.</li>
+ *     <li>Failed messages are retried with exponential backoff and marked DEAD after the last attempt.</li>
+ * </ul>
+ * Workers are started by the poll and by {@link #wakeUp()} once a queued message has committed. A worker
+ * that claims a full batch brings in another one, up to the configured number of workers.
+ */
+@Component
+@Slf4j
+public class EmailOutboxDispatcher {
+
+	private final EmailOutboxRepository emailOutboxRepository;
+	private final JavaMailSender javaMailSender;
+	private final TransactionTemplate transactionTemplate;
+	private final ThreadPoolTaskExecutor executor;
+	private final AtomicInteger activeWorkers = new AtomicInteger();
+	private final boolean enabled;
+	private final int batchSize;
+	private final int workers;
+	private final int maxAttempts;
+	private final long initialBackoffMs;
+	private final long maxBackoffMs;
+	private final long leaseSeconds;
+
+	public EmailOutboxDispatcher(EmailOutboxRepository emailOutboxRepository,
+								 JavaMailSender javaMailSender,
+								 PlatformTransactionManager transactionManager,
+								 @Qualifier("emailOutboxExecutor") ThreadPoolTaskExecutor executor,
+								 @Value("${emailOutbox.enabled:true}") boolean enabled,
+								 @Value("${emailOutbox.batchSize:50}") int batchSize,
+								 @Value("${emailOutbox.workers:2}") int workers,
+								 @Value("${emailOutbox.maxAttempts:6}") int maxAttempts,
+								 @Value("${emailOutbox.initialBackoffMs:30000}") long initialBackoffMs,
+								 @Value("${emailOutbox.maxBackoffMs:3600000}") long maxBackoffMs,
+								 @Value("${emailOutbox.leaseSeconds:300}") long leaseSeconds) {
+		this.emailOutboxRepository = emailOutboxRepository;
+		this.javaMailSender = javaMailSender;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.executor = executor;
+		this.enabled = enabled;
+		this.batchSize = batchSize;
+		this.workers = workers;
+		this.maxAttempts = maxAttempts;
+		this.initialBackoffMs = initialBackoffMs;
+		this.maxBackoffMs = maxBackoffMs;
+		this.leaseSeconds = leaseSeconds;
+	}
+
+	@Scheduled(fixedDelayString = "${emailOutbox.pollIntervalMs:5000}")
+	public void poll() {
+		if (!enabled) {
+			return;
+		}
+
+		try {
+			Integer released = transactionTemplate.execute(status ->
+					emailOutboxRepository.releaseExpiredLeases(LocalDateTime.now()));
+			if (released != null && released > 0) {
+				log.warn("Released {} outbox emails left in SENDING by a stopped dispatcher", released);
+			}
+		} catch (Exception e) {
+			log.error("Failed to release expired email outbox leases", e);
+		}
+		wakeUp();
+	}
+
+	/**
+	 * Starts a worker unless all of them are already busy.
+	 */
+	public void wakeUp() {
+		if (!enabled) {
+			return;
+		}
+
+		while (true) {
+			int active = activeWorkers.get();
+			if (active >= workers) {
+				return;
+			}
+			if (activeWorkers.compareAndSet(active, active + 1)) {
+				try {
+					executor.execute(this::drain);
+				} catch (TaskRejectedException e) {
+					activeWorkers.decrementAndGet();
+				}
+				return;
+			}
+		}
+	}
+
+	private void drain() {
+		try {
+			while (true) {
+				List<EmailOutbox> batch = claim();
+				if (batch.isEmpty()) {
+					return;
+				}
+				if (batch.size() == batchSize) {
+					// There is probably more waiting
+					wakeUp();
+				}
+				send(batch);
+			}
+		} catch (Exception e) {
+			log.error("Email outbox worker stopped", e);
+		} finally {
+			activeWorkers.decrementAndGet();
+		}
+	}
+
+	private List<EmailOutbox> claim() {
+		List<EmailOutbox> batch = transactionTemplate.execute(status -> {
+			LocalDateTime now = LocalDateTime.now();
+			List<EmailOutbox> due = emailOutboxRepository.lockDue(now, batchSize);
+			if (!due.isEmpty()) {
+				emailOutboxRepository.markSending(due.stream().map(EmailOutbox::getId).toList(),
+						now.plusSeconds(leaseSeconds));
+			}
+			return due;
+		});
+		return batch != null ? batch : Collections.emptyList();
+	}
+
+	private void send(List<EmailOutbox> batch) {
+		Map<MimeMessage, EmailOutbox> messages = new IdentityHashMap<>();
+		Map<EmailOutbox, String> failures = new HashMap<>();
+
+		for (EmailOutbox email : batch) {
+			try {
+				messages.put(toMimeMessage(email), email);
+			} catch (MessagingException e) {
+				failures.put(email, e.getMessage());
+			}
+		}
+
+		if (!messages.isEmpty()) {
+			try {
+				javaMailSender.send(messages.keySet().toArray(new MimeMessage[0]));
+			} catch (MailSendException e) {
+				// Only the listed messages failed; a connection failure lists all of them
+				e.getFailedMessages().forEach((message, cause) -> {
+					EmailOutbox email = messages.get(message);
+					if (email != null) {
+						failures.put(email, cause.getMessage());
+					}
+				});
+				if (e.getFailedMessages().isEmpty()) {
+					messages.values().forEach(email -> failures.put(email, e.getMessage()));
+				}
+			} catch (MailException e) {
+				messages.values().forEach(email -> failures.put(email, e.getMessage()));
+			}
+		}
+
+		List<Long> sentIds = new ArrayList<>();
+		for (EmailOutbox email : batch) {
+			if (!failures.containsKey(email)) {
+				sentIds.add(email.getId());
+			}
+		}
+
+		transactionTemplate.executeWithoutResult(status -> {
+			LocalDateTime now = LocalDateTime.now();
+			if (!sentIds.isEmpty()) {
+				emailOutboxRepository.markSent(sentIds, now);
+			}
+			failures.forEach((email, error) -> recordFailure(email, error, now));
+		});
+
+		log.info("Email outbox batch finished: {} sent, {} failed", sentIds.size(), failures.size());
+	}
+
+	private void recordFailure(EmailOutbox email, String error, LocalDateTime now) {
+		// The claimed entity still holds the attempt count from before the claim
+		int attempt = email.getAttempts() + 1;
+		String message = error == null ? "Unknown error"
+				: error.length() > 1000 ? error.substring(0, 1000) : error;
+
+		if (attempt >= maxAttempts) {
+			emailOutboxRepository.markFailed(email.getId(), EmailStatus.DEAD, now, message);
+			log.error("Email {} to {} failed {} times and was marked dead: {}", email.getId(), email.getRecipient(), attempt, message);
+		} else {
+			emailOutboxRepository.markFailed(email.getId(), EmailStatus.PENDING, now.plus(Duration.ofMillis(backoffMs(attempt))), message);
+			log.warn("Email {} to {} failed (attempt {}), will retry: {}", email.getId(), email.getRecipient(), attempt, message);
+		}
+	}
+
+	/**
+	 * Delay before the next attempt: doubles with every attempt up to the cap, plus up to 20% jitter
+	 * so that a batch that failed together does not retry together.
+	 */
+	private long backoffMs(int attempt) {
+		long delay = initialBackoffMs << Math.min(attempt - 1, 30);
+		if (delay <= 0 || delay > maxBackoffMs) {
+			delay = maxBackoffMs;
+		}
+		return delay + ThreadLocalRandom.current().nextLong(delay / 5 + 1);
+	}
+
+	private MimeMessage toMimeMessage(EmailOutbox email) throws MessagingException {
+		MimeMessage message = javaMailSender.createMimeMessage();
+		MimeMessageHelper helper = new MimeMessageHelper(message, true);
+		helper.setTo(email.getRecipient());
+		helper.setSubject(email.getSubject());
+		helper.setText(email.getBody(), email.isHtml());
+		return message;
+	}
+}
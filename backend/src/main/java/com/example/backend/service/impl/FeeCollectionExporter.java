@@ -0,0 +1,149 @@
+package com.example.backend.service.impl;
+
+import com.example.backend.dto.response.FeeCollectionResponse;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Font;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.Objects;
+
+/**
+ * Writes fee collections to CSV or XLSX as they are read, so the export never holds
+ * more than a small window of rows. XLSX goes through SXSSF, which keeps only the last
+ * {@value #XLSX_ROW_WINDOW} rows in memory and spools the rest to a compressed temp file.
+ */
+@Component
+public class FeeCollectionExporter {
+
+	private static final String[] HEADERS = {"ID", "Household ID", "Household Code", "Apartment", "Fee Type",
+			"Month", "Amount", "Paid", "Paid Date", "Paid By", "Collected By", "Created By", "Created At"};
+
+	private static final int XLSX_ROW_WINDOW = 200;
+	// Excel's row limit; larger exports continue on another sheet
+	private static final int XLSX_MAX_ROWS_PER_SHEET = 1_048_576;
+
+	/**
+	 * @return Number of rows written
+	 */
+	public long writeCsv(Iterator<FeeCollectionResponse> rows, OutputStream out) throws IOException {
+		BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+		// BOM, so Excel opens the UTF-8 file with the right encoding
+		writer.write('\uFEFF');
+		writer.write(String.join(",", HEADERS));
+		writer.write("\r\n");
+
+		long count = 0;
+		while (rows.hasNext()) {
+			FeeCollectionResponse fee = rows.next();
+			writer.write(fee.getId() + "," + fee.getHouseholdId() + "," + csv(fee.getHouseholdCode()) + ","
+					+ csv(fee.getApartmentNumber()) + "," + csv(fee.getFeeTypeName()) + "," + fee.getYearMonth() + ","
+					+ fee.getAmount() + "," + fee.getIsPaid() + "," + csv(fee.getPaidDate()) + ","
+					+ csv(fee.getPaidBy()) + "," + csv(fee.getCollectedBy()) + "," + csv(fee.getCreatedBy()) + ","
+					+ csv(fee.getCreatedAt()));
+			writer.write("\r\n");
+			count++;
+		}
+		writer.flush();
+		return count;
+	}
+
+	/**
+	 * @return Number of rows written
+	 */
+	public long writeXlsx(Iterator<FeeCollectionResponse> rows, OutputStream out, String sheetName) throws IOException {
+		SXSSFWorkbook workbook = new SXSSFWorkbook(XLSX_ROW_WINDOW);
+		workbook.setCompressTempFiles(true);
+		try {
+			CellStyle headerStyle = workbook.createCellStyle();
+			Font bold = workbook.createFont();
+			bold.setBold(true);
+			headerStyle.setFont(bold);
+			CellStyle amountStyle = workbook.createCellStyle();
+			amountStyle.setDataFormat(workbook.createDataFormat().getFormat("#,##0"));
+
+			long count = 0;
+			int sheetIndex = 0;
+			Sheet sheet = null;
+			int rowIndex = XLSX_MAX_ROWS_PER_SHEET;
+			while (rows.hasNext()) {
+				if (rowIndex >= XLSX_MAX_ROWS_PER_SHEET) {
+					sheet = createSheet(workbook, sheetIndex == 0 ? sheetName : sheetName + " (" + (sheetIndex + 1) + ")", headerStyle);
+					sheetIndex++;
+					rowIndex = 1;
+				}
+
+				FeeCollectionResponse fee = rows.next();
+				Row row = sheet.createRow(rowIndex++);
+				row.createCell(0).setCellValue(fee.getId());
+				row.createCell(1).setCellValue(fee.getHouseholdId());
+				row.createCell(2).setCellValue(fee.getHouseholdCode());
+				row.createCell(3).setCellValue(fee.getApartmentNumber());
+				row.createCell(4).setCellValue(fee.getFeeTypeName());
+				row.createCell(5).setCellValue(fee.getYearMonth().toString());
+				Cell amount = row.createCell(6);
+				amount.setCellValue(fee.getAmount());
+				amount.setCellStyle(amountStyle);
+				row.createCell(7).setCellValue(Boolean.TRUE.equals(fee.getIsPaid()));
+				row.createCell(8).setCellValue(text(fee.getPaidDate()));
+				row.createCell(9).setCellValue(text(fee.getPaidBy()));
+				row.createCell(10).setCellValue(text(fee.getCollectedBy()));
+				row.createCell(11).setCellValue(text(fee.getCreatedBy()));
+				row.createCell(12).setCellValue(text(fee.getCreatedAt()));
+				count++;
+			}
+			if (sheet == null) {
+				createSheet(workbook, sheetName, headerStyle);
+			}
+
+			workbook.write(out);
+			out.flush();
+			return count;
+		} finally {
+			// Also deletes the temporary sheet files in POI 5
+			workbook.close();
+		}
+	}
+
+	private static Sheet createSheet(SXSSFWorkbook workbook, String name, CellStyle headerStyle) {
+		SXSSFSheet sheet = workbook.createSheet(name);
+		Row header = sheet.createRow(0);
+		for (int i = 0; i < HEADERS.length; i++) {
+			Cell cell = header.createCell(i);
+			cell.setCellValue(HEADERS[i]);
+			cell.setCellStyle(headerStyle);
+		}
+		sheet.createFreezePane(0, 1);
+		return sheet;
+	}
+
+	private static String text(Object value) {
+		if (value instanceof LocalDateTime dateTime) {
+			return dateTime.withNano(0).toString();
+		}
+		if (value instanceof LocalDate date) {
+			return date.toString();
+		}
+		return Objects.toString(value, "");
+	}
+
+	private static String csv(Object value) {
+		String text = text(value);
+		if (text.contains(",") || text.contains("\"") || text.contains("\n") || text.contains("\r")) {
+			return "\"" + text.replace("\"", "\"\"") + "\"";
+		}
+		return text;
+	}
+}
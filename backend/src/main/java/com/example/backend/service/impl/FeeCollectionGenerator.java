@@ -0,0 +1,138 @@
+package com.example.backend.service.impl;
+
+import com.example.backend.dto.projection.FeeCollectionKeyView;
+import com.example.backend.dto.projection.HouseholdAreaView;
+import com.example.backend.model.FeeCollection;
+import com.example.backend.model.FeeType;
+import com.example.backend.model.Household;
+import com.example.backend.repository.FeeCollectionBatchRepository;
+import com.example.backend.repository.FeeCollectionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Set-based engine behind monthly fee generation: the existing (household, fee type)
+ * keys of a partition are loaded once, the missing pairs are worked out in memory and
+ * written with JDBC batch inserts, one transaction per chunk.
+ */
+@Component
+@Slf4j
+public class FeeCollectionGenerator {
+
+	private final FeeCollectionRepository feeCollectionRepository;
+	private final FeeCollectionBatchRepository feeCollectionBatchRepository;
+	private final TransactionTemplate transactionTemplate;
+	private final int batchSize;
+
+	public FeeCollectionGenerator(FeeCollectionRepository feeCollectionRepository,
+								  FeeCollectionBatchRepository feeCollectionBatchRepository,
+								  PlatformTransactionManager transactionManager,
+								  @Value("${feeGeneration.batchSize:1000}") int batchSize) {
+		this.feeCollectionRepository = feeCollectionRepository;
+		this.feeCollectionBatchRepository = feeCollectionBatchRepository;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * Generates the missing fee collections for one partition of households, sorted by id.
+	 * Only the existing keys inside the partition's id range are loaded. The cancelled flag
+	 * is checked before every chunk, so a failed job stops its running partitions quickly;
+	 * rows already written are skipped when the job is resumed.
+	 *
+	 * @return Number of rows inserted
+	 * @throws CancellationException if the job was cancelled while the partition was running
+	 */
+	public int generateForPartition(YearMonth yearMonth, List<FeeType> feeTypes, List<HouseholdAreaView> partition,
+									AtomicBoolean cancelled) {
+		if (partition.isEmpty()) {
+			return 0;
+		}
+		ensureNotCancelled(cancelled);
+		Set<Long> existingKeys = toKeySet(feeCollectionRepository.findKeysByYearMonthAndHouseholdIdBetween(
+				yearMonth, partition.get(0).getId(), partition.get(partition.size() - 1).getId()));
+		return generate(yearMonth, feeTypes, partition, existingKeys, cancelled);
+	}
+
+	/**
+	 * Writes the fee collections missing from {@code existingKeys} for the given households.
+	 *
+	 * @return Number of rows inserted
+	 */
+	int generate(YearMonth yearMonth, List<FeeType> feeTypes, List<HouseholdAreaView> households, Set<Long> existingKeys,
+				 AtomicBoolean cancelled) {
+		int generated = 0;
+		List<FeeCollection> chunk = new ArrayList<>(batchSize);
+
+		for (HouseholdAreaView household : households) {
+			for (FeeType feeType : feeTypes) {
+				if (existingKeys.contains(key(household.getId(), feeType.getId()))) {
+					continue;
+				}
+
+				chunk.add(FeeCollection.builder()
+						.household(Household.builder().id(household.getId()).build())
+						.feeType(feeType)
+						.yearMonth(yearMonth)
+						.amount(calculateAmount(feeType, household.getAreaM2()))
+						.isPaid(false)
+						.createdBy("system")
+						.build());
+
+				if (chunk.size() >= batchSize) {
+					ensureNotCancelled(cancelled);
+					generated += writeChunk(chunk);
+					chunk.clear();
+				}
+			}
+		}
+
+		ensureNotCancelled(cancelled);
+		generated += writeChunk(chunk);
+		return generated;
+	}
+
+	static Set<Long> toKeySet(List<FeeCollectionKeyView> keys) {
+		Set<Long> keySet = new HashSet<>(keys.size() * 2);
+		for (FeeCollectionKeyView key : keys) {
+			keySet.add(key(key.getHouseholdId(), key.getFeeTypeId()));
+		}
+		return keySet;
+	}
+
+	private static void ensureNotCancelled(AtomicBoolean cancelled) {
+		if (cancelled.get()) {
+			throw new CancellationException("Fee generation job was cancelled");
+		}
+	}
+
+	private int writeChunk(List<FeeCollection> chunk) {
+		if (chunk.isEmpty()) {
+			return 0;
+		}
+		Integer inserted = transactionTemplate.execute(status -> feeCollectionBatchRepository.batchInsert(chunk));
+		return inserted != null ? inserted : 0;
+	}
+
+	private static Double calculateAmount(FeeType feeType, Double areaM2) {
+		if (feeType.getIsPerM2()) {
+			return areaM2 * feeType.getPricePerM2();
+		}
+		return feeType.getPricePerM2(); // Flat rate
+	}
+
+	private static long key(Integer householdId, Integer feeTypeId) {
+		return ((long) householdId << 32) | (feeTypeId & 0xFFFFFFFFL);
+	}
+}
@@ -1,5 +1,6 @@
 package com.example.backend.service.impl;
 
+import com.example.backend.dto.request.ExportFormat;
 import com.example.backend.dto.request.FeeCollectionRequest;
 import com.example.backend.dto.response.FeeCollectionResponse;
 import com.example.backend.exception.BadRequestException;
@@ -8,10 +9,11 @@ import com.example.backend.model.FeeCollection;
 import com.example.backend.model.FeeType;
 import com.example.backend.model.Household;
 import com.example.backend.repository.FeeCollectionRepository;
-import com.example.backend.repository.FeeTypeRepository;
 import com.example.backend.repository.HouseholdRepository;
 import com.example.backend.service.FeeCollectionService;
 import com.example.backend.service.HistoryRecordService;
+import com.example.backend.service.ReferenceDataCache;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -21,22 +23,30 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDate;
 import java.time.YearMonth;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class FeeCollectionServiceImpl implements FeeCollectionService {
 
+	private static final int EXPORT_CLEAR_INTERVAL = 1000;
+
 	private final FeeCollectionRepository feeCollectionRepository;
 	private final HouseholdRepository householdRepository;
-	private final FeeTypeRepository feeTypeRepository;
+	private final ReferenceDataCache referenceDataCache;
 	private final HistoryRecordService historyRecordService;
+	private final FeeCollectionExporter feeCollectionExporter;
+	private final EntityManager entityManager;
 
 	@Override
 	@Transactional
@@ -45,7 +55,7 @@ public class FeeCollectionServiceImpl implements FeeCollectionService {
 		Household household = householdRepository.findById(request.getHouseholdId())
 				.orElseThrow(() -> new ResourceNotFoundException("Household not found with id: " + request.getHouseholdId()));
 
-		FeeType feeType = feeTypeRepository.findById(request.getFeeTypeId())
+		FeeType feeType = referenceDataCache.getFeeType(request.getFeeTypeId())
 				.orElseThrow(() -> new ResourceNotFoundException("Fee type not found with id: " + request.getFeeTypeId()));
 
 		// Check if collection already exists for this household, fee type, and month
@@ -134,6 +144,30 @@ public class FeeCollectionServiceImpl implements FeeCollectionService {
 				.map(this::mapToFeeCollectionResponse);
 	}
 
+	@Override
+	@Transactional(readOnly = true)
+	public long exportFeeCollectionsByYearMonth(YearMonth yearMonth, ExportFormat format, OutputStream out) throws IOException {
+		try (Stream<FeeCollection> feeCollections = feeCollectionRepository.streamByYearMonth(yearMonth)) {
+			int[] mapped = {0};
+			Iterator<FeeCollectionResponse> rows = feeCollections
+					.map(feeCollection -> {
+						FeeCollectionResponse response = mapToFeeCollectionResponse(feeCollection);
+						// Keep the persistence context from growing with every row read
+						if (++mapped[0] % EXPORT_CLEAR_INTERVAL == 0) {
+							entityManager.clear();
+						}
+						return response;
+					})
+					.iterator();
+
+			long count = format == ExportFormat.XLSX
+					? feeCollectionExporter.writeXlsx(rows, out, "Fee collections " + yearMonth)
+					: feeCollectionExporter.writeCsv(rows, out);
+			log.info("Exported {} fee collections of {} as {}", count, yearMonth, format);
+			return count;
+		}
+	}
+
 	@Override
 	public List<FeeCollectionResponse> getUnpaidFeesByYearMonth(YearMonth yearMonth) {
 		return feeCollectionRepository.findByYearMonthAndIsPaid(yearMonth, false).stream()
@@ -211,67 +245,6 @@ public class FeeCollectionServiceImpl implements FeeCollectionService {
 		historyRecordService.recordAction("FeeCollection", id, "DELETE");
 	}
 
-	@Override
-	@Transactional
-	public void generateMonthlyFeeCollectionsForAllHouseholds(YearMonth yearMonth) {
-		log.info("Generating monthly fee collections for all households for {}", yearMonth);
-
-		// Get all required fee types
-		List<FeeType> requiredFeeTypes = feeTypeRepository.findByIsRequired(true);
-		if (requiredFeeTypes.isEmpty()) {
-			log.warn("No required fee types found for monthly generation");
-			return;
-		}
-
-		// Get all households
-		List<Household> households = householdRepository.findAll();
-		if (households.isEmpty()) {
-			log.warn("No households found for monthly fee generation");
-			return;
-		}
-
-		int generatedCount = 0;
-
-		// For each household, create fee collections for each required fee type
-		for (Household household : households) {
-			for (FeeType feeType : requiredFeeTypes) {
-				// Check if collection already exists for this household, fee type, and month
-				List<FeeCollection> existingCollections = feeCollectionRepository
-						.findByHouseholdIdAndYearMonth(household.getId(), yearMonth);
-
-				boolean exists = existingCollections.stream()
-						.anyMatch(fee -> fee.getFeeType().getId().equals(feeType.getId()));
-
-				if (!exists) {
-					// Calculate fee amount
-					Double amount;
-					if (feeType.getIsPerM2()) {
-						amount = household.getAreaM2() * feeType.getPricePerM2();
-					} else {
-						amount = feeType.getPricePerM2(); // Flat rate
-					}
-
-					// Create new fee collection
-					FeeCollection feeCollection = FeeCollection.builder()
-							.household(household)
-							.feeType(feeType)
-							.yearMonth(yearMonth)
-							.amount(amount)
-							.isPaid(false)
-							.createdBy("system")
-							.build();
-
-					feeCollectionRepository.save(feeCollection);
-					generatedCount++;
-				}
-			}
-		}
-
-		log.info("Generated {} fee collections for {} households and {} required fee types for {}",
-				generatedCount, households.size(), requiredFeeTypes.size(), yearMonth);
-
-	}
-
 	@Override
 	public Double getTotalCollectedAmountByYearMonth(YearMonth yearMonth) {
 		Double amount = feeCollectionRepository.getTotalCollectedAmountByYearMonth(yearMonth);
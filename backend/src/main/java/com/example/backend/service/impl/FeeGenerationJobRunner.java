@@ -0,0 +1,161 @@
+package com.example.backend.service.impl;
+
+import com.example.backend.dto.projection.HouseholdAreaView;
+import com.example.backend.model.FeeGenerationJob;
+import com.example.backend.model.FeeType;
+import com.example.backend.model.enums.JobStatus;
+import com.example.backend.repository.FeeGenerationJobRepository;
+import com.example.backend.repository.HouseholdRepository;
+import com.example.backend.service.ReferenceDataCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Coordinates one fee generation job. Households are read in id-ordered partitions
+ * and handed to the worker pool; partitions are checkpointed in order, so the stored
+ * {@code lastHouseholdId} is always a safe point to resume from. Generation skips
+ * existing rows, so redoing a partition after a crash is harmless.
+ */
+@Component
+@Slf4j
+public class FeeGenerationJobRunner {
+
+	private final FeeGenerationJobRepository feeGenerationJobRepository;
+	private final ReferenceDataCache referenceDataCache;
+	private final HouseholdRepository householdRepository;
+	private final FeeCollectionGenerator feeCollectionGenerator;
+	private final ThreadPoolTaskExecutor workerExecutor;
+	private final int workers;
+
+	public FeeGenerationJobRunner(FeeGenerationJobRepository feeGenerationJobRepository,
+								  ReferenceDataCache referenceDataCache,
+								  HouseholdRepository householdRepository,
+								  FeeCollectionGenerator feeCollectionGenerator,
+								  @Qualifier("feeGenerationWorkerExecutor") ThreadPoolTaskExecutor workerExecutor,
+								  @Value("${feeGeneration.workers:4}") int workers) {
+		this.feeGenerationJobRepository = feeGenerationJobRepository;
+		this.referenceDataCache = referenceDataCache;
+		this.householdRepository = householdRepository;
+		this.feeCollectionGenerator = feeCollectionGenerator;
+		this.workerExecutor = workerExecutor;
+		this.workers = workers;
+	}
+
+	@Async("feeGenerationJobExecutor")
+	public void run(Integer jobId) {
+		FeeGenerationJob job = feeGenerationJobRepository.findById(jobId).orElse(null);
+		if (job == null || job.getStatus() == JobStatus.COMPLETED) {
+			return;
+		}
+
+		Deque<Partition> inFlight = new ArrayDeque<>();
+		// Shared with the partitions, which check it between chunks
+		AtomicBoolean cancelled = new AtomicBoolean();
+		try {
+			YearMonth yearMonth = job.getYearMonth();
+			List<FeeType> requiredFeeTypes = referenceDataCache.getRequiredFeeTypes();
+
+			job.setStatus(JobStatus.RUNNING);
+			job.setTotalHouseholds(householdRepository.count());
+			if (job.getStartedAt() == null) {
+				job.setStartedAt(LocalDateTime.now());
+			}
+			job = feeGenerationJobRepository.save(job);
+
+			if (requiredFeeTypes.isEmpty()) {
+				log.warn("No required fee types found for monthly generation");
+			} else {
+				Integer cursor = job.getLastHouseholdId() != null ? job.getLastHouseholdId() : 0;
+				PageRequest partitionRequest = PageRequest.of(0, job.getPartitionSize());
+
+				while (true) {
+					List<HouseholdAreaView> households = householdRepository.findAreaViewsAfter(cursor, partitionRequest);
+					if (households.isEmpty()) {
+						break;
+					}
+
+					cursor = households.get(households.size() - 1).getId();
+					inFlight.add(new Partition(cursor, households.size(), CompletableFuture.supplyAsync(
+							() -> feeCollectionGenerator.generateForPartition(yearMonth, requiredFeeTypes, households, cancelled),
+							workerExecutor)));
+
+					if (inFlight.size() >= workers) {
+						job = checkpoint(job, inFlight.poll());
+					}
+				}
+
+				while (!inFlight.isEmpty()) {
+					job = checkpoint(job, inFlight.poll());
+				}
+			}
+
+			job.setStatus(JobStatus.COMPLETED);
+			job.setFinishedAt(LocalDateTime.now());
+			feeGenerationJobRepository.save(job);
+
+			long elapsedMs = elapsedMs(job);
+			log.info("Fee generation job {} for {} completed: {} fee collections for {} households in {} ms ({} rows/s)",
+					job.getId(), yearMonth, job.getGeneratedCount(), job.getProcessedHouseholds(), elapsedMs,
+					String.format("%.1f", rowsPerSecond(job.getGeneratedCount(), elapsedMs)));
+		} catch (Exception e) {
+			log.error("Fee generation job {} failed after household {}", jobId, job.getLastHouseholdId(), e);
+			// cancel() only drops partitions not yet started; running ones stop at their next chunk
+			cancelled.set(true);
+			inFlight.forEach(partition -> partition.result().cancel(false));
+
+			job.setStatus(JobStatus.FAILED);
+			job.setErrorMessage(abbreviate(e.getMessage()));
+			job.setFinishedAt(LocalDateTime.now());
+			feeGenerationJobRepository.save(job);
+		}
+	}
+
+	private FeeGenerationJob checkpoint(FeeGenerationJob job, Partition partition) {
+		int generated = partition.result().join();
+
+		job.setLastHouseholdId(partition.lastHouseholdId());
+		job.setProcessedHouseholds(job.getProcessedHouseholds() + partition.size());
+		job.setGeneratedCount(job.getGeneratedCount() + generated);
+		return feeGenerationJobRepository.save(job);
+	}
+
+	/**
+	 * Time from the first start of the job to its end, or to now while it runs. A resumed job
+	 * counts the time it spent interrupted as well.
+	 */
+	static long elapsedMs(FeeGenerationJob job) {
+		if (job.getStartedAt() == null) {
+			return 0;
+		}
+		LocalDateTime end = job.getFinishedAt() != null ? job.getFinishedAt() : LocalDateTime.now();
+		return Math.max(Duration.between(job.getStartedAt(), end).toMillis(), 0);
+	}
+
+	static double rowsPerSecond(Long rows, long elapsedMs) {
+		return (rows != null ? rows : 0) * 1000.0 / Math.max(elapsedMs, 1);
+	}
+
+	private static String abbreviate(String message) {
+		if (message == null) {
+			return "Unknown error";
+		}
+		return message.length() > 1000 ? message.substring(0, 1000) : message;
+	}
+
+	private record Partition(Integer lastHouseholdId, int size, CompletableFuture<Integer> result) {
+	}
+}
@@ -0,0 +1,145 @@
+package com.example.backend.service.impl;
+
+import com.example.backend.dto.response.FeeGenerationJobResponse;
+import com.example.backend.exception.BadRequestException;
+import com.example.backend.exception.ConflictException;
+import com.example.backend.exception.ResourceNotFoundException;
+import com.example.backend.model.FeeGenerationJob;
+import com.example.backend.model.enums.JobStatus;
+import com.example.backend.repository.FeeGenerationJobRepository;
+import com.example.backend.service.FeeGenerationJobService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+
+import java.time.YearMonth;
+import java.util.EnumSet;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class FeeGenerationJobServiceImpl implements FeeGenerationJobService {
+
+	private static final EnumSet<JobStatus> ACTIVE_STATUSES = EnumSet.of(JobStatus.PENDING, JobStatus.RUNNING);
+
+	private final FeeGenerationJobRepository feeGenerationJobRepository;
+	private final FeeGenerationJobRunner feeGenerationJobRunner;
+
+	@Value("${feeGeneration.partitionSize:500}")
+	private int partitionSize;
+
+	@Override
+	public FeeGenerationJobResponse startMonthlyGeneration(YearMonth yearMonth) {
+		if (feeGenerationJobRepository.existsByYearMonthAndStatusIn(yearMonth, ACTIVE_STATUSES)) {
+			throw new ConflictException("A fee generation job is already running for " + yearMonth);
+		}
+
+		FeeGenerationJob job = FeeGenerationJob.builder()
+				.yearMonth(yearMonth)
+				.status(JobStatus.PENDING)
+				.partitionSize(partitionSize)
+				.processedHouseholds(0L)
+				.generatedCount(0L)
+				.createdBy(getCurrentUsername())
+				.build();
+
+		// Saved in its own transaction so the worker is guaranteed to see the job
+		job = feeGenerationJobRepository.save(job);
+		feeGenerationJobRunner.run(job.getId());
+
+		return mapToJobResponse(job);
+	}
+
+	@Override
+	public FeeGenerationJobResponse getJobById(Integer id) {
+		return feeGenerationJobRepository.findById(id)
+				.map(this::mapToJobResponse)
+				.orElseThrow(() -> new ResourceNotFoundException("Fee generation job not found with id: " + id));
+	}
+
+	@Override
+	public Page<FeeGenerationJobResponse> getAllJobs(Pageable pageable) {
+		return feeGenerationJobRepository.findAllByOrderByCreatedAtDesc(pageable)
+				.map(this::mapToJobResponse);
+	}
+
+	@Override
+	public FeeGenerationJobResponse resumeJob(Integer id) {
+		FeeGenerationJob job = feeGenerationJobRepository.findById(id)
+				.orElseThrow(() -> new ResourceNotFoundException("Fee generation job not found with id: " + id));
+
+		if (job.getStatus() != JobStatus.FAILED) {
+			throw new BadRequestException("Only failed jobs can be resumed");
+		}
+		if (feeGenerationJobRepository.existsByYearMonthAndStatusIn(job.getYearMonth(), ACTIVE_STATUSES)) {
+			throw new ConflictException("A fee generation job is already running for " + job.getYearMonth());
+		}
+
+		job.setStatus(JobStatus.PENDING);
+		job.setErrorMessage(null);
+		job = feeGenerationJobRepository.save(job);
+		feeGenerationJobRunner.run(job.getId());
+
+		return mapToJobResponse(job);
+	}
+
+	/**
+	 * Picks up jobs that were pending or running when the application stopped.
+	 * They continue from their last checkpoint instead of starting over.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void resumeInterruptedJobs() {
+		List<FeeGenerationJob> interrupted = feeGenerationJobRepository.findByStatusIn(ACTIVE_STATUSES);
+		for (FeeGenerationJob job : interrupted) {
+			log.info("Resuming fee generation job {} for {} after household {}",
+					job.getId(), job.getYearMonth(), job.getLastHouseholdId());
+			feeGenerationJobRunner.run(job.getId());
+		}
+	}
+
+	private FeeGenerationJobResponse mapToJobResponse(FeeGenerationJob job) {
+		Double progressPercentage = null;
+		if (job.getStatus() == JobStatus.COMPLETED) {
+			progressPercentage = 100.0;
+		} else if (job.getTotalHouseholds() != null) {
+			progressPercentage = job.getTotalHouseholds() > 0 ?
+					Math.min(100.0, job.getProcessedHouseholds() * 100.0 / job.getTotalHouseholds()) : 0.0;
+		}
+
+		long elapsedMs = FeeGenerationJobRunner.elapsedMs(job);
+		return FeeGenerationJobResponse.builder()
+				.id(job.getId())
+				.yearMonth(job.getYearMonth())
+				.status(job.getStatus())
+				.partitionSize(job.getPartitionSize())
+				.totalHouseholds(job.getTotalHouseholds())
+				.processedHouseholds(job.getProcessedHouseholds())
+				.generatedCount(job.getGeneratedCount())
+				.progressPercentage(progressPercentage)
+				.lastHouseholdId(job.getLastHouseholdId())
+				.errorMessage(job.getErrorMessage())
+				.createdBy(job.getCreatedBy())
+				.createdAt(job.getCreatedAt())
+				.startedAt(job.getStartedAt())
+				.finishedAt(job.getFinishedAt())
+				.elapsedMs(elapsedMs)
+				.rowsPerSecond(job.getStartedAt() != null ? FeeGenerationJobRunner.rowsPerSecond(job.getGeneratedCount(), elapsedMs) : null)
+				.build();
+	}
+
+	private String getCurrentUsername() {
+		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+		if (authentication == null || !authentication.isAuthenticated()) {
+			return "system";
+		}
+		return authentication.getName();
+	}
+}
@@ -0,0 +1,66 @@
+package com.example.backend.service.impl;
+
+import freemarker.cache.ClassTemplateLoader;
+import freemarker.template.Configuration;
+import freemarker.template.Template;
+import freemarker.template.TemplateException;
+import freemarker.template.TemplateExceptionHandler;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Renders fee reminder emails. The templates are parsed once when the bean is created
+ * and the compiled {@link Template}s are shared by every render; they are safe to use
+ * from several threads. The body template is {@code .ftlh}, so every value it prints is HTML escaped.
+ */
+@Component
+public class FeeReminderRenderer {
+
+	private static final String TEMPLATE_DIR = "/templates/email";
+
+	private final Template subjectTemplate;
+	private final Template bodyTemplate;
+
+	public FeeReminderRenderer() {
+		Configuration configuration = new Configuration(Configuration.VERSION_2_3_34);
+		configuration.setTemplateLoader(new ClassTemplateLoader(FeeReminderRenderer.class, TEMPLATE_DIR));
+		configuration.setDefaultEncoding(StandardCharsets.UTF_8.name());
+		configuration.setLocale(Locale.US);
+		configuration.setTemplateExceptionHandler(TemplateExceptionHandler.RETHROW_HANDLER);
+		configuration.setLogTemplateExceptions(false);
+		configuration.setWrapUncheckedExceptions(true);
+
+		try {
+			this.subjectTemplate = configuration.getTemplate("fee-reminder-subject.ftl");
+			this.bodyTemplate = configuration.getTemplate("fee-reminder.ftlh");
+		} catch (IOException e) {
+			throw new UncheckedIOException("Cannot load fee reminder templates", e);
+		}
+	}
+
+	public String renderSubject(Map<String, Object> model) {
+		return render(subjectTemplate, model).strip();
+	}
+
+	public String renderBody(Map<String, Object> model) {
+		return render(bodyTemplate, model);
+	}
+
+	private static String render(Template template, Map<String, Object> model) {
+		StringWriter writer = new StringWriter(2048);
+		try {
+			template.process(model, writer);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		} catch (TemplateException e) {
+			throw new IllegalStateException("Cannot render " + template.getName(), e);
+		}
+		return writer.toString();
+	}
+}
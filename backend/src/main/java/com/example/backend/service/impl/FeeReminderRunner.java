@@ -0,0 +1,211 @@
+package com.example.backend.service.impl;
+
+import com.example.backend.model.EmailOutbox;
+import com.example.backend.model.FeeReminderRun;
+import com.example.backend.model.enums.EmailStatus;
+import com.example.backend.model.enums.JobStatus;
+import com.example.backend.repository.EmailOutboxBatchRepository;
+import com.example.backend.repository.FeeReminderRunRepository;
+import com.example.backend.repository.UnpaidFeeReminderRepository;
+import com.example.backend.repository.UnpaidFeeReminderRepository.ReminderHousehold;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Runs one fee reminder campaign. Households with unpaid items are read in id-ordered chunks;
+ * each chunk's items are streamed grouped by household, rendered, and queued in the outbox in
+ * the same transaction that advances the checkpoint, so a resumed run never queues a household twice.
+ * Only one chunk of households and their rendered messages is held at a time.
+ * <p>
+ * Queued messages are spaced {@code 60s / messagesPerMinute} apart through their first
+ * delivery time, which keeps the outbox dispatcher under the mail server's rate limit.
+ */
+@Component
+@Slf4j
+public class FeeReminderRunner {
+
+	private final FeeReminderRunRepository feeReminderRunRepository;
+	private final UnpaidFeeReminderRepository unpaidFeeReminderRepository;
+	private final EmailOutboxBatchRepository emailOutboxBatchRepository;
+	private final FeeReminderRenderer feeReminderRenderer;
+	private final TransactionTemplate transactionTemplate;
+	private final int chunkSize;
+	private final long spacingMs;
+
+	public FeeReminderRunner(FeeReminderRunRepository feeReminderRunRepository,
+							 UnpaidFeeReminderRepository unpaidFeeReminderRepository,
+							 EmailOutboxBatchRepository emailOutboxBatchRepository,
+							 FeeReminderRenderer feeReminderRenderer,
+							 PlatformTransactionManager transactionManager,
+							 @Value("${feeReminder.chunkSize:100}") int chunkSize,
+							 @Value("${feeReminder.messagesPerMinute:60}") int messagesPerMinute) {
+		this.feeReminderRunRepository = feeReminderRunRepository;
+		this.unpaidFeeReminderRepository = unpaidFeeReminderRepository;
+		this.emailOutboxBatchRepository = emailOutboxBatchRepository;
+		this.feeReminderRenderer = feeReminderRenderer;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.chunkSize = chunkSize;
+		this.spacingMs = 60_000L / Math.max(1, messagesPerMinute);
+	}
+
+	@Async("feeReminderExecutor")
+	public void run(Integer runId) {
+		FeeReminderRun run = feeReminderRunRepository.findById(runId).orElse(null);
+		if (run == null || run.getStatus() == JobStatus.COMPLETED) {
+			return;
+		}
+
+		try {
+			run.setStatus(JobStatus.RUNNING);
+			if (run.getStartedAt() == null) {
+				run.setStartedAt(LocalDateTime.now());
+			}
+			run = feeReminderRunRepository.save(run);
+
+			YearMonth upTo = run.getYearMonth();
+			int cursor = run.getLastHouseholdId() != null ? run.getLastHouseholdId() : 0;
+			LocalDateTime nextSlot = LocalDateTime.now();
+
+			while (true) {
+				List<ReminderHousehold> households = unpaidFeeReminderRepository.findHouseholdsWithUnpaidAfter(upTo, cursor, chunkSize);
+				if (households.isEmpty()) {
+					break;
+				}
+
+				int lastHouseholdId = households.get(households.size() - 1).id();
+				List<EmailOutbox> emails = renderChunk(upTo, cursor, lastHouseholdId, households);
+
+				// A run that renders slower than the rate limit never schedules into the past
+				LocalDateTime now = LocalDateTime.now();
+				if (nextSlot.isBefore(now)) {
+					nextSlot = now;
+				}
+				for (EmailOutbox email : emails) {
+					email.setNextAttemptAt(nextSlot);
+					nextSlot = nextSlot.plus(Duration.ofMillis(spacingMs));
+				}
+
+				FeeReminderRun current = run;
+				run = transactionTemplate.execute(status -> {
+					emailOutboxBatchRepository.batchInsert(emails);
+					current.setLastHouseholdId(lastHouseholdId);
+					current.setProcessedHouseholds(current.getProcessedHouseholds() + households.size());
+					current.setQueuedCount(current.getQueuedCount() + emails.size());
+					current.setSkippedCount(current.getSkippedCount() + households.size() - emails.size());
+					return feeReminderRunRepository.save(current);
+				});
+				cursor = lastHouseholdId;
+			}
+
+			run.setStatus(JobStatus.COMPLETED);
+			run.setFinishedAt(LocalDateTime.now());
+			feeReminderRunRepository.save(run);
+
+			log.info("Fee reminder run {} for {} completed: {} reminders queued, {} households without contact email",
+					run.getId(), upTo, run.getQueuedCount(), run.getSkippedCount());
+		} catch (Exception e) {
+			log.error("Fee reminder run {} failed after household {}", runId, run.getLastHouseholdId(), e);
+
+			run.setStatus(JobStatus.FAILED);
+			run.setErrorMessage(abbreviate(e.getMessage()));
+			run.setFinishedAt(LocalDateTime.now());
+			feeReminderRunRepository.save(run);
+		}
+	}
+
+	private List<EmailOutbox> renderChunk(YearMonth upTo, int afterId, int toId, List<ReminderHousehold> households) {
+		Map<Integer, ReminderHousehold> byId = households.stream()
+				.collect(Collectors.toMap(ReminderHousehold::id, Function.identity()));
+		ChunkRenderer renderer = new ChunkRenderer(upTo, byId);
+		unpaidFeeReminderRepository.streamUnpaidItems(upTo, afterId, toId, renderer);
+		renderer.flush();
+		return renderer.emails;
+	}
+
+	private static String abbreviate(String message) {
+		if (message == null) {
+			return "Unknown error";
+		}
+		return message.length() > 1000 ? message.substring(0, 1000) : message;
+	}
+
+	/**
+	 * Collects the items of one household at a time and renders its message as soon as
+	 * the rows move on to the next household.
+	 */
+	private class ChunkRenderer implements RowCallbackHandler {
+		private final YearMonth upTo;
+		private final Map<Integer, ReminderHousehold> households;
+		private final List<EmailOutbox> emails = new ArrayList<>();
+		private final List<Map<String, Object>> items = new ArrayList<>();
+		private Integer householdId;
+		private double total;
+
+		ChunkRenderer(YearMonth upTo, Map<Integer, ReminderHousehold> households) {
+			this.upTo = upTo;
+			this.households = households;
+		}
+
+		@Override
+		public void processRow(ResultSet rs) throws SQLException {
+			int rowHouseholdId = rs.getInt("household_id");
+			if (householdId == null || householdId != rowHouseholdId) {
+				flush();
+				householdId = rowHouseholdId;
+			}
+
+			double amount = rs.getDouble("amount");
+			Map<String, Object> item = new HashMap<>();
+			item.put("category", rs.getString("category"));
+			item.put("description", rs.getString("description"));
+			item.put("yearMonth", rs.getString("month_year"));
+			item.put("amount", amount);
+			items.add(item);
+			total += amount;
+		}
+
+		void flush() {
+			ReminderHousehold household = householdId != null ? households.get(householdId) : null;
+			if (household != null && household.contactEmail() != null && !household.contactEmail().isBlank()) {
+				Map<String, Object> model = new HashMap<>();
+				model.put("household", Map.of(
+						"householdCode", household.householdCode(),
+						"apartmentNumber", household.apartmentNumber(),
+						"ownerName", household.ownerName()));
+				model.put("yearMonth", upTo.toString());
+				model.put("items", items);
+				model.put("total", total);
+
+				emails.add(EmailOutbox.builder()
+						.recipient(household.contactEmail())
+						.subject(feeReminderRenderer.renderSubject(model))
+						.body(feeReminderRenderer.renderBody(model))
+						.html(true)
+						.status(EmailStatus.PENDING)
+						.attempts(0)
+						.build());
+			}
+
+			householdId = null;
+			items.clear();
+			total = 0;
+		}
+	}
+}
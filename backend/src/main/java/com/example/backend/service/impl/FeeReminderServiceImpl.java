@@ -0,0 +1,129 @@
+package com.example.backend.service.impl;
+
+import com.example.backend.dto.response.FeeReminderRunResponse;
+import com.example.backend.exception.BadRequestException;
+import com.example.backend.exception.ConflictException;
+import com.example.backend.exception.ResourceNotFoundException;
+import com.example.backend.model.FeeReminderRun;
+import com.example.backend.model.enums.JobStatus;
+import com.example.backend.repository.FeeReminderRunRepository;
+import com.example.backend.service.FeeReminderService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+
+import java.time.YearMonth;
+import java.util.EnumSet;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class FeeReminderServiceImpl implements FeeReminderService {
+
+	private static final EnumSet<JobStatus> ACTIVE_STATUSES = EnumSet.of(JobStatus.PENDING, JobStatus.RUNNING);
+
+	private final FeeReminderRunRepository feeReminderRunRepository;
+	private final FeeReminderRunner feeReminderRunner;
+
+	@Override
+	public FeeReminderRunResponse startReminderRun(YearMonth yearMonth) {
+		// Runs for different months cover the same arrears, so two at once would mail households twice
+		if (feeReminderRunRepository.existsByStatusIn(ACTIVE_STATUSES)) {
+			throw new ConflictException("A fee reminder run is already in progress");
+		}
+
+		FeeReminderRun run = FeeReminderRun.builder()
+				.yearMonth(yearMonth)
+				.status(JobStatus.PENDING)
+				.processedHouseholds(0L)
+				.queuedCount(0L)
+				.skippedCount(0L)
+				.createdBy(getCurrentUsername())
+				.build();
+
+		// Saved in its own transaction so the runner is guaranteed to see the run
+		run = feeReminderRunRepository.save(run);
+		feeReminderRunner.run(run.getId());
+
+		return mapToRunResponse(run);
+	}
+
+	@Override
+	public FeeReminderRunResponse getRunById(Integer id) {
+		return feeReminderRunRepository.findById(id)
+				.map(this::mapToRunResponse)
+				.orElseThrow(() -> new ResourceNotFoundException("Fee reminder run not found with id: " + id));
+	}
+
+	@Override
+	public Page<FeeReminderRunResponse> getAllRuns(Pageable pageable) {
+		return feeReminderRunRepository.findAllByOrderByCreatedAtDesc(pageable)
+				.map(this::mapToRunResponse);
+	}
+
+	@Override
+	public FeeReminderRunResponse resumeRun(Integer id) {
+		FeeReminderRun run = feeReminderRunRepository.findById(id)
+				.orElseThrow(() -> new ResourceNotFoundException("Fee reminder run not found with id: " + id));
+
+		if (run.getStatus() != JobStatus.FAILED) {
+			throw new BadRequestException("Only failed runs can be resumed");
+		}
+		if (feeReminderRunRepository.existsByStatusIn(ACTIVE_STATUSES)) {
+			throw new ConflictException("A fee reminder run is already in progress");
+		}
+
+		run.setStatus(JobStatus.PENDING);
+		run.setErrorMessage(null);
+		run = feeReminderRunRepository.save(run);
+		feeReminderRunner.run(run.getId());
+
+		return mapToRunResponse(run);
+	}
+
+	/**
+	 * Picks up runs that were pending or running when the application stopped.
+	 * They continue after the last household they queued.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void resumeInterruptedRuns() {
+		List<FeeReminderRun> interrupted = feeReminderRunRepository.findByStatusIn(ACTIVE_STATUSES);
+		for (FeeReminderRun run : interrupted) {
+			log.info("Resuming fee reminder run {} for {} after household {}",
+					run.getId(), run.getYearMonth(), run.getLastHouseholdId());
+			feeReminderRunner.run(run.getId());
+		}
+	}
+
+	private FeeReminderRunResponse mapToRunResponse(FeeReminderRun run) {
+		return FeeReminderRunResponse.builder()
+				.id(run.getId())
+				.yearMonth(run.getYearMonth())
+				.status(run.getStatus())
+				.processedHouseholds(run.getProcessedHouseholds())
+				.queuedCount(run.getQueuedCount())
+				.skippedCount(run.getSkippedCount())
+				.lastHouseholdId(run.getLastHouseholdId())
+				.errorMessage(run.getErrorMessage())
+				.createdBy(run.getCreatedBy())
+				.createdAt(run.getCreatedAt())
+				.startedAt(run.getStartedAt())
+				.finishedAt(run.getFinishedAt())
+				.build();
+	}
+
+	private String getCurrentUsername() {
+		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+		if (authentication == null || !authentication.isAuthenticated()) {
+			return "system";
+		}
+		return authentication.getName();
+	}
+}
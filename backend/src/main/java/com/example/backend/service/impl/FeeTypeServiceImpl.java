@@ -10,6 +10,7 @@ import com.example.backend.repository.FeeCollectionRepository;
 import com.example.backend.repository.FeeTypeRepository;
 import com.example.backend.service.FeeTypeService;
 import com.example.backend.service.HistoryRecordService;
+import com.example.backend.service.ReferenceDataCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -31,6 +32,7 @@ public class FeeTypeServiceImpl implements FeeTypeService {
 	private final FeeTypeRepository feeTypeRepository;
 	private final FeeCollectionRepository feeCollectionRepository;
 	private final HistoryRecordService historyRecordService;
+	private final ReferenceDataCache referenceDataCache;
 
 	@Override
 	@Transactional
@@ -51,6 +53,7 @@ public class FeeTypeServiceImpl implements FeeTypeService {
 				.build();
 
 		feeType = feeTypeRepository.save(feeType);
+		referenceDataCache.invalidateFeeTypes();
 
 		// Record history
 		historyRecordService.recordAction("FeeType", feeType.getId(), "CREATE");
@@ -60,7 +63,7 @@ public class FeeTypeServiceImpl implements FeeTypeService {
 
 	@Override
 	public FeeTypeResponse getFeeTypeById(Integer id) {
-		return feeTypeRepository.findById(id)
+		return referenceDataCache.getFeeType(id)
 				.map(this::mapToFeeTypeResponse)
 				.orElseThrow(() -> new ResourceNotFoundException("Fee type not found with id: " + id));
 	}
@@ -73,7 +76,7 @@ public class FeeTypeServiceImpl implements FeeTypeService {
 
 	@Override
 	public List<FeeTypeResponse> getRequiredFeeTypes() {
-		return feeTypeRepository.findByIsRequired(true).stream()
+		return referenceDataCache.getRequiredFeeTypes().stream()
 				.map(this::mapToFeeTypeResponse)
 				.collect(Collectors.toList());
 	}
@@ -107,6 +110,7 @@ public class FeeTypeServiceImpl implements FeeTypeService {
 		feeType.setIsRequired(request.getIsRequired());
 
 		feeType = feeTypeRepository.save(feeType);
+		referenceDataCache.invalidateFeeTypes();
 
 		// Record history
 		historyRecordService.recordAction("FeeType", feeType.getId(), "UPDATE");
@@ -127,6 +131,7 @@ public class FeeTypeServiceImpl implements FeeTypeService {
 		}
 
 		feeTypeRepository.deleteById(id);
+		referenceDataCache.invalidateFeeTypes();
 
 		// Record history
 		historyRecordService.recordAction("FeeType", id, "DELETE");
@@ -0,0 +1,159 @@
+package com.example.backend.service.impl;
+
+import com.example.backend.repository.HistoryRecordArchiveBatchRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Keeps {@code history_records} small. Records older than the retention window are moved
+ * to {@code history_records_archive} in short per-chunk transactions, and archived months
+ * older than the export window are written to gzip CSV files and removed from the archive.
+ */
+@Component
+@Slf4j
+public class HistoryArchiveJob {
+
+	private static final DateTimeFormatter EXPORT_SUFFIX = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+
+	private final HistoryRecordArchiveBatchRepository archiveBatchRepository;
+	private final TransactionTemplate transactionTemplate;
+	private final int retentionMonths;
+	private final int exportAfterMonths;
+	private final int chunkSize;
+	private final Path exportDir;
+
+	public HistoryArchiveJob(HistoryRecordArchiveBatchRepository archiveBatchRepository,
+							 PlatformTransactionManager transactionManager,
+							 @Value("${historyArchive.retentionMonths:6}") int retentionMonths,
+							 @Value("${historyArchive.exportAfterMonths:24}") int exportAfterMonths,
+							 @Value("${historyArchive.chunkSize:1000}") int chunkSize,
+							 @Value("${historyArchive.exportDir:data/history-export}") String exportDir) {
+		this.archiveBatchRepository = archiveBatchRepository;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.retentionMonths = retentionMonths;
+		this.exportAfterMonths = exportAfterMonths;
+		this.chunkSize = chunkSize;
+		this.exportDir = Paths.get(exportDir);
+	}
+
+	/**
+	 * First instant that is still kept in the live table.
+	 */
+	public LocalDateTime getRetentionCutoff() {
+		return YearMonth.now().minusMonths(retentionMonths).atDay(1).atStartOfDay();
+	}
+
+	@Scheduled(cron = "${historyArchive.cron:0 30 2 * * *}")
+	public void run() {
+		try {
+			int archived = archiveOldRecords();
+			int exported = exportColdMonths();
+			log.info("History archive run finished: {} records archived, {} months exported", archived, exported);
+		} catch (Exception e) {
+			log.error("History archive run failed", e);
+		}
+	}
+
+	/**
+	 * Moves live records older than the retention cutoff into the archive table.
+	 *
+	 * @return Number of records moved
+	 */
+	public int archiveOldRecords() {
+		LocalDateTime cutoff = getRetentionCutoff();
+		int moved = 0;
+
+		while (true) {
+			List<Integer> ids = archiveBatchRepository.findLiveIdsBefore(cutoff, chunkSize);
+			if (ids.isEmpty()) {
+				return moved;
+			}
+			Integer count = transactionTemplate.execute(status -> archiveBatchRepository.moveToArchive(ids));
+			moved += count != null ? count : 0;
+		}
+	}
+
+	/**
+	 * Exports archived months older than the export window to gzip CSV and drops them from the archive.
+	 *
+	 * @return Number of months exported
+	 */
+	public int exportColdMonths() throws IOException {
+		LocalDateTime cutoff = YearMonth.now().minusMonths(exportAfterMonths).atDay(1).atStartOfDay();
+		List<YearMonth> months = archiveBatchRepository.findArchivedMonthsBefore(cutoff);
+		if (months.isEmpty()) {
+			return 0;
+		}
+
+		Files.createDirectories(exportDir);
+		for (YearMonth month : months) {
+			Path file = exportMonth(month);
+			int deleted = deleteMonth(month);
+			log.info("Exported {} archived history records of {} to {}", deleted, month, file);
+		}
+		return months.size();
+	}
+
+	private Path exportMonth(YearMonth month) throws IOException {
+		// A month can be exported more than once if rows arrive late, so every export gets its own file
+		String fileName = "history-" + month + "-" + LocalDateTime.now().format(EXPORT_SUFFIX) + ".csv.gz";
+		Path target = exportDir.resolve(fileName);
+		Path temp = exportDir.resolve(fileName + ".part");
+
+		try (BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(
+				new GZIPOutputStream(Files.newOutputStream(temp)), StandardCharsets.UTF_8))) {
+			writer.write("id,entity_type,entity_id,action_type,timestamp");
+			writer.newLine();
+			archiveBatchRepository.streamMonth(month, rs -> {
+				try {
+					writer.write(rs.getInt("id") + "," + csv(rs.getString("entity_type")) + ","
+							+ rs.getInt("entity_id") + "," + csv(rs.getString("action_type")) + ","
+							+ rs.getTimestamp("timestamp").toLocalDateTime());
+					writer.newLine();
+				} catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			});
+		}
+
+		// Only drop the rows once the file is complete
+		return Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+	}
+
+	private int deleteMonth(YearMonth month) {
+		int deleted = 0;
+		while (true) {
+			Integer count = transactionTemplate.execute(status -> archiveBatchRepository.deleteMonth(month, chunkSize));
+			if (count == null || count == 0) {
+				return deleted;
+			}
+			deleted += count;
+		}
+	}
+
+	private static String csv(String value) {
+		if (value.contains(",") || value.contains("\"") || value.contains("\n")) {
+			return "\"" + value.replace("\"", "\"\"") + "\"";
+		}
+		return value;
+	}
+}
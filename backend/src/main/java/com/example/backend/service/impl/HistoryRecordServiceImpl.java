@@ -1,19 +1,31 @@
 package com.example.backend.service.impl;
 
+import com.example.backend.dto.response.CursorPage;
 import com.example.backend.dto.response.HistoryRecordResponse;
 import com.example.backend.exception.ResourceNotFoundException;
 import com.example.backend.model.HistoryRecord;
+import com.example.backend.model.HistoryRecordArchive;
+import com.example.backend.repository.HistoryRecordArchiveRepository;
 import com.example.backend.repository.HistoryRecordRepository;
 import com.example.backend.service.HistoryRecordService;
+import com.example.backend.utils.TimestampCursor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.function.BiFunction;
 import java.util.stream.Collectors;
 
 @Service
@@ -21,17 +33,25 @@ import java.util.stream.Collectors;
 @Slf4j
 public class HistoryRecordServiceImpl implements HistoryRecordService {
 
+	private static final int MAX_PAGE_SIZE = 100;
+
 	private final HistoryRecordRepository historyRecordRepository;
+	private final HistoryRecordArchiveRepository historyRecordArchiveRepository;
+	private final HistoryRecordWriter historyRecordWriter;
 
 	@Override
-	@Transactional
 	public void recordAction(String entityType, Integer entityId, String actionType) {
+		recordActions(entityType, List.of(entityId), actionType);
+	}
+
+	@Override
+	public void recordActions(String entityType, Collection<Integer> entityIds, String actionType) {
 		// Validate parameters
 		if (entityType == null || entityType.isBlank()) {
 			throw new IllegalArgumentException("Entity type cannot be empty");
 		}
 
-		if (entityId == null) {
+		if (entityIds == null || entityIds.contains(null)) {
 			throw new IllegalArgumentException("Entity ID cannot be null");
 		}
 
@@ -39,35 +59,47 @@ public class HistoryRecordServiceImpl implements HistoryRecordService {
 			throw new IllegalArgumentException("Action type cannot be empty");
 		}
 
-		// Create and save the history record
-		HistoryRecord record = HistoryRecord.builder()
-				.entityType(entityType)
-				.entityId(entityId)
-				.actionType(actionType)
-				.timestamp(LocalDateTime.now())
-				.build();
+		if (entityIds.isEmpty()) {
+			return;
+		}
 
-		try {
-			historyRecordRepository.save(record);
-			log.debug("Recorded action: {} on {}:{}", actionType, entityType, entityId);
-		} catch (Exception e) {
-			log.error("Failed to record history action", e);
-			// Don't throw exception to avoid affecting the main operation
+		LocalDateTime now = LocalDateTime.now();
+		List<HistoryRecord> records = entityIds.stream()
+				.map(entityId -> HistoryRecord.builder()
+						.entityType(entityType)
+						.entityId(entityId)
+						.actionType(actionType)
+						.timestamp(now)
+						.build())
+				.collect(Collectors.toList());
+
+		// Hand the records to the background writer once the business transaction has committed,
+		// so a rolled back operation leaves no audit trail and the transaction does no extra insert
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					historyRecordWriter.enqueue(records);
+				}
+			});
+		} else {
+			historyRecordWriter.enqueue(records);
 		}
+		log.debug("Recorded action: {} on {}:{}", actionType, entityType, entityIds);
 	}
 
 	@Override
 	public HistoryRecordResponse getHistoryRecordById(Integer id) {
 		return historyRecordRepository.findById(id)
 				.map(this::mapToHistoryRecordResponse)
+				.or(() -> historyRecordArchiveRepository.findById(id).map(this::mapToHistoryRecordResponse))
 				.orElseThrow(() -> new ResourceNotFoundException("History record not found with id: " + id));
 	}
 
 	@Override
-	public List<HistoryRecordResponse> getHistoryByEntityAndId(String entityType, Integer entityId) {
-		return historyRecordRepository.findByEntityTypeAndEntityIdOrderByTimestampDesc(entityType, entityId).stream()
-				.map(this::mapToHistoryRecordResponse)
-				.collect(Collectors.toList());
+	public Page<HistoryRecordResponse> getHistoryByEntityAndId(String entityType, Integer entityId, Pageable pageable) {
+		return historyRecordRepository.findByEntityTypeAndEntityIdOrderByTimestampDescIdDesc(entityType, entityId, bounded(pageable))
+				.map(this::mapToHistoryRecordResponse);
 	}
 
 	@Override
@@ -77,17 +109,94 @@ public class HistoryRecordServiceImpl implements HistoryRecordService {
 	}
 
 	@Override
-	public List<HistoryRecordResponse> getHistoryByEntityType(String entityType) {
-		return historyRecordRepository.findByEntityTypeOrderByTimestampDesc(entityType).stream()
-				.map(this::mapToHistoryRecordResponse)
-				.collect(Collectors.toList());
+	public Page<HistoryRecordResponse> getHistoryByEntityType(String entityType, Pageable pageable) {
+		return historyRecordRepository.findByEntityTypeOrderByTimestampDescIdDesc(entityType, bounded(pageable))
+				.map(this::mapToHistoryRecordResponse);
+	}
+
+	@Override
+	public Page<HistoryRecordResponse> getHistoryByActionType(String actionType, Pageable pageable) {
+		return historyRecordRepository.findByActionTypeOrderByTimestampDescIdDesc(actionType, bounded(pageable))
+				.map(this::mapToHistoryRecordResponse);
+	}
+
+	@Override
+	public CursorPage<HistoryRecordResponse> getHistoryRecordsByCursor(String cursor, int size) {
+		return scroll(cursor, size,
+				historyRecordRepository::findAllByOrderByTimestampDescIdDesc,
+				historyRecordArchiveRepository::findAllByOrderByTimestampDescIdDesc);
+	}
+
+	@Override
+	public CursorPage<HistoryRecordResponse> getHistoryByEntityAndIdByCursor(String entityType, Integer entityId, String cursor, int size) {
+		return scroll(cursor, size,
+				(position, limit) -> historyRecordRepository.findByEntityTypeAndEntityIdOrderByTimestampDescIdDesc(entityType, entityId, position, limit),
+				(position, limit) -> historyRecordArchiveRepository.findByEntityTypeAndEntityIdOrderByTimestampDescIdDesc(entityType, entityId, position, limit));
 	}
 
 	@Override
-	public List<HistoryRecordResponse> getHistoryByActionType(String actionType) {
-		return historyRecordRepository.findByActionType(actionType).stream()
+	public CursorPage<HistoryRecordResponse> getHistoryByEntityTypeByCursor(String entityType, String cursor, int size) {
+		return scroll(cursor, size,
+				(position, limit) -> historyRecordRepository.findByEntityTypeOrderByTimestampDescIdDesc(entityType, position, limit),
+				(position, limit) -> historyRecordArchiveRepository.findByEntityTypeOrderByTimestampDescIdDesc(entityType, position, limit));
+	}
+
+	@Override
+	public CursorPage<HistoryRecordResponse> getHistoryByActionTypeByCursor(String actionType, String cursor, int size) {
+		return scroll(cursor, size,
+				(position, limit) -> historyRecordRepository.findByActionTypeOrderByTimestampDescIdDesc(actionType, position, limit),
+				(position, limit) -> historyRecordArchiveRepository.findByActionTypeOrderByTimestampDescIdDesc(actionType, position, limit));
+	}
+
+	/**
+	 * Keyset pagination over the live table followed by the archive. The archive only holds
+	 * records older than the live ones, so it is only read once the live table is exhausted.
+	 */
+	private CursorPage<HistoryRecordResponse> scroll(String cursor, int size,
+													 BiFunction<ScrollPosition, Limit, Window<HistoryRecord>> live,
+													 BiFunction<ScrollPosition, Limit, Window<HistoryRecordArchive>> archive) {
+		int limit = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+		TimestampCursor after = TimestampCursor.decode(cursor);
+
+		Window<HistoryRecord> liveWindow = live.apply(TimestampCursor.toScrollPosition(after), Limit.of(limit));
+		List<HistoryRecordResponse> content = liveWindow.getContent().stream()
 				.map(this::mapToHistoryRecordResponse)
-				.collect(Collectors.toList());
+				.collect(Collectors.toCollection(ArrayList::new));
+		boolean hasNext = liveWindow.hasNext();
+
+		if (!hasNext) {
+			TimestampCursor archiveAfter = content.isEmpty() ? after : toCursor(content.get(content.size() - 1));
+			int remaining = limit - content.size();
+			// With a full page only one archived row is needed to know whether another page exists
+			Window<HistoryRecordArchive> archiveWindow = archive.apply(
+					TimestampCursor.toScrollPosition(archiveAfter), Limit.of(Math.max(remaining, 1)));
+			if (remaining > 0) {
+				archiveWindow.forEach(record -> content.add(mapToHistoryRecordResponse(record)));
+				hasNext = archiveWindow.hasNext();
+			} else {
+				hasNext = !archiveWindow.isEmpty();
+			}
+		}
+
+		String nextCursor = hasNext && !content.isEmpty() ? toCursor(content.get(content.size() - 1)).encode() : null;
+		return CursorPage.<HistoryRecordResponse>builder()
+				.content(content)
+				.size(content.size())
+				.hasNext(nextCursor != null)
+				.nextCursor(nextCursor)
+				.build();
+	}
+
+	private static TimestampCursor toCursor(HistoryRecordResponse response) {
+		return new TimestampCursor(response.getTimestamp(), response.getId());
+	}
+
+	// The order is fixed by the query (newest first), so only the page number and a capped size are kept
+	private static Pageable bounded(Pageable pageable) {
+		if (pageable.isUnpaged()) {
+			return PageRequest.of(0, MAX_PAGE_SIZE);
+		}
+		return PageRequest.of(pageable.getPageNumber(), Math.min(pageable.getPageSize(), MAX_PAGE_SIZE));
 	}
 
 	private HistoryRecordResponse mapToHistoryRecordResponse(HistoryRecord historyRecord) {
@@ -99,4 +208,14 @@ public class HistoryRecordServiceImpl implements HistoryRecordService {
 				.timestamp(historyRecord.getTimestamp())
 				.build();
 	}
-}
\ No newline at end of file
+
+	private HistoryRecordResponse mapToHistoryRecordResponse(HistoryRecordArchive historyRecord) {
+		return HistoryRecordResponse.builder()
+				.id(historyRecord.getId())
+				.entityType(historyRecord.getEntityType())
+				.entityId(historyRecord.getEntityId())
+				.actionType(historyRecord.getActionType())
+				.timestamp(historyRecord.getTimestamp())
+				.build();
+	}
+}
@@ -0,0 +1,188 @@
+package com.example.backend.service.impl;
+
+import com.example.backend.model.HistoryRecord;
+import com.example.backend.repository.HistoryRecordBatchRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Background writer for the audit trail. Records are queued in memory and flushed
+ * with JDBC batch inserts on a fixed interval. When the queue stays full past the
+ * offer timeout of a batch, or a flush fails, or the application shuts down with records still
+ * queued, the records are appended to a spool file that is replayed on the next start.
+ */
+@Component
+@Slf4j
+public class HistoryRecordWriter {
+
+	private final HistoryRecordBatchRepository historyRecordBatchRepository;
+	private final BlockingQueue<HistoryRecord> queue;
+	private final int batchSize;
+	private final long offerTimeoutMs;
+	private final Path spoolFile;
+
+	public HistoryRecordWriter(HistoryRecordBatchRepository historyRecordBatchRepository,
+							   @Value("${historyWriter.queueCapacity:10000}") int queueCapacity,
+							   @Value("${historyWriter.batchSize:500}") int batchSize,
+							   @Value("${historyWriter.offerTimeoutMs:200}") long offerTimeoutMs,
+							   @Value("${historyWriter.spoolFile:data/history-spool.log}") String spoolFile) {
+		this.historyRecordBatchRepository = historyRecordBatchRepository;
+		this.queue = new ArrayBlockingQueue<>(queueCapacity);
+		this.batchSize = batchSize;
+		this.offerTimeoutMs = offerTimeoutMs;
+		this.spoolFile = Paths.get(spoolFile);
+	}
+
+	/**
+	 * Queues records for the next flush. The whole batch shares one offer timeout while
+	 * the queue is full; once a record does not fit, it and the rest are spooled to disk.
+	 */
+	public void enqueue(Collection<HistoryRecord> records) {
+		List<HistoryRecord> overflow = new ArrayList<>();
+		long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(offerTimeoutMs);
+		for (HistoryRecord record : records) {
+			if (!overflow.isEmpty() || !offer(record, deadline - System.nanoTime())) {
+				overflow.add(record);
+			}
+		}
+
+		if (!overflow.isEmpty()) {
+			log.warn("History queue full, spooling {} records", overflow.size());
+			spool(overflow);
+		}
+	}
+
+	@Scheduled(fixedDelayString = "${historyWriter.flushIntervalMs:1000}")
+	public void flush() {
+		List<HistoryRecord> batch = new ArrayList<>(batchSize);
+		while (queue.drainTo(batch, batchSize) > 0) {
+			write(batch);
+			batch.clear();
+		}
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void replaySpool() {
+		synchronized (this) {
+			if (!Files.exists(spoolFile)) {
+				return;
+			}
+
+			try {
+				List<HistoryRecord> records = new ArrayList<>();
+				for (String line : Files.readAllLines(spoolFile, StandardCharsets.UTF_8)) {
+					HistoryRecord record = fromSpoolLine(line);
+					if (record != null) {
+						records.add(record);
+					}
+				}
+
+				for (int from = 0; from < records.size(); from += batchSize) {
+					historyRecordBatchRepository.batchInsert(records.subList(from, Math.min(from + batchSize, records.size())));
+				}
+				Files.delete(spoolFile);
+				log.info("Replayed {} spooled history records", records.size());
+			} catch (Exception e) {
+				log.error("Failed to replay history spool {}, keeping it for the next start", spoolFile, e);
+			}
+		}
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		List<HistoryRecord> remaining = new ArrayList<>();
+		queue.drainTo(remaining);
+		if (remaining.isEmpty()) {
+			return;
+		}
+
+		try {
+			historyRecordBatchRepository.batchInsert(remaining);
+		} catch (Exception e) {
+			log.warn("Could not flush {} history records on shutdown, spooling them", remaining.size());
+			spool(remaining);
+		}
+	}
+
+	private boolean offer(HistoryRecord record, long timeoutNanos) {
+		try {
+			return queue.offer(record, Math.max(timeoutNanos, 0), TimeUnit.NANOSECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+
+	private void write(List<HistoryRecord> batch) {
+		try {
+			historyRecordBatchRepository.batchInsert(batch);
+			log.debug("Flushed {} history records", batch.size());
+		} catch (Exception e) {
+			log.error("Failed to flush {} history records, spooling them", batch.size(), e);
+			spool(batch);
+		}
+	}
+
+	private synchronized void spool(List<HistoryRecord> records) {
+		try {
+			if (spoolFile.getParent() != null) {
+				Files.createDirectories(spoolFile.getParent());
+			}
+			try (BufferedWriter writer = Files.newBufferedWriter(spoolFile, StandardCharsets.UTF_8,
+					StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+				for (HistoryRecord record : records) {
+					writer.write(toSpoolLine(record));
+					writer.newLine();
+				}
+			}
+		} catch (IOException e) {
+			log.error("Failed to spool {} history records, they are lost: {}", records.size(), records, e);
+		}
+	}
+
+	private static String toSpoolLine(HistoryRecord record) {
+		return String.join("\t",
+				sanitize(record.getEntityType()),
+				String.valueOf(record.getEntityId()),
+				sanitize(record.getActionType()),
+				record.getTimestamp().toString());
+	}
+
+	private static HistoryRecord fromSpoolLine(String line) {
+		String[] parts = line.split("\t");
+		if (parts.length != 4) {
+			log.warn("Skipping malformed history spool line: {}", line);
+			return null;
+		}
+		return HistoryRecord.builder()
+				.entityType(parts[0])
+				.entityId(Integer.valueOf(parts[1]))
+				.actionType(parts[2])
+				.timestamp(LocalDateTime.parse(parts[3]))
+				.build();
+	}
+
+	private static String sanitize(String value) {
+		return value.replaceAll("[\\t\\r\\n]", " ");
+	}
+}
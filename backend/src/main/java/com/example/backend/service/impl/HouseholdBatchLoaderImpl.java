@@ -0,0 +1,156 @@
+package com.example.backend.service.impl;
+
+import com.example.backend.dto.projection.HouseholdResidentCountView;
+import com.example.backend.dto.response.DonationResponse;
+import com.example.backend.dto.response.FeeCollectionResponse;
+import com.example.backend.dto.response.PopulationChangeResponse;
+import com.example.backend.dto.response.ResidentResponse;
+import com.example.backend.model.Donation;
+import com.example.backend.model.FeeCollection;
+import com.example.backend.model.PopulationChange;
+import com.example.backend.model.Resident;
+import com.example.backend.repository.DonationRepository;
+import com.example.backend.repository.FeeCollectionRepository;
+import com.example.backend.repository.PopulationChangeRepository;
+import com.example.backend.repository.ResidentRepository;
+import com.example.backend.service.HouseholdBatchLoader;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class HouseholdBatchLoaderImpl implements HouseholdBatchLoader {
+
+	private final ResidentRepository residentRepository;
+	private final DonationRepository donationRepository;
+	private final FeeCollectionRepository feeCollectionRepository;
+	private final PopulationChangeRepository populationChangeRepository;
+
+	@Override
+	public Map<Integer, List<ResidentResponse>> loadResidents(Collection<Integer> householdIds) {
+		if (householdIds.isEmpty()) {
+			return Collections.emptyMap();
+		}
+		return groupByHousehold(residentRepository.findByHouseholdIdIn(householdIds),
+				this::mapToResidentResponse, ResidentResponse::getHouseholdId);
+	}
+
+	@Override
+	public Map<Integer, Integer> countResidents(Collection<Integer> householdIds) {
+		if (householdIds.isEmpty()) {
+			return Collections.emptyMap();
+		}
+		return residentRepository.countByHouseholdIdIn(householdIds).stream()
+				.collect(Collectors.toMap(HouseholdResidentCountView::getHouseholdId,
+						count -> count.getResidentCount().intValue()));
+	}
+
+	@Override
+	public Map<Integer, List<DonationResponse>> loadDonations(Collection<Integer> householdIds) {
+		if (householdIds.isEmpty()) {
+			return Collections.emptyMap();
+		}
+		return groupByHousehold(donationRepository.findByHouseholdIdIn(householdIds),
+				this::mapToDonationResponse, DonationResponse::getHouseholdId);
+	}
+
+	@Override
+	public Map<Integer, List<FeeCollectionResponse>> loadFeeCollections(Collection<Integer> householdIds) {
+		if (householdIds.isEmpty()) {
+			return Collections.emptyMap();
+		}
+		return groupByHousehold(feeCollectionRepository.findByHouseholdIdIn(householdIds),
+				this::mapToFeeCollectionResponse, FeeCollectionResponse::getHouseholdId);
+	}
+
+	@Override
+	public Map<Integer, List<PopulationChangeResponse>> loadPopulationChanges(Collection<Integer> householdIds) {
+		if (householdIds.isEmpty()) {
+			return Collections.emptyMap();
+		}
+		return groupByHousehold(populationChangeRepository.findByHouseholdIdIn(householdIds),
+				this::mapToPopulationChangeResponse, PopulationChangeResponse::getHouseholdId);
+	}
+
+	private static <E, R> Map<Integer, List<R>> groupByHousehold(List<E> entities, Function<E, R> mapper,
+																 Function<R, Integer> householdId) {
+		return entities.stream()
+				.map(mapper)
+				.collect(Collectors.groupingBy(householdId, LinkedHashMap::new, Collectors.toList()));
+	}
+
+	private ResidentResponse mapToResidentResponse(Resident resident) {
+		return ResidentResponse.builder()
+				.id(resident.getId())
+				.householdId(resident.getHousehold().getId())
+				.householdCode(resident.getHousehold().getHouseholdCode())
+				.fullName(resident.getFullName())
+				.dateOfBirth(resident.getDateOfBirth())
+				.gender(resident.getGender())
+				.idCardNumber(resident.getIdCardNumber())
+				.relationshipWithOwner(resident.getRelationshipWithOwner())
+				.isOwner(resident.getIsOwner())
+				.createdAt(resident.getCreatedAt())
+				.build();
+	}
+
+	private DonationResponse mapToDonationResponse(Donation donation) {
+		return DonationResponse.builder()
+				.id(donation.getId())
+				.householdId(donation.getHousehold().getId())
+				.householdCode(donation.getHousehold().getHouseholdCode())
+				.apartmentNumber(donation.getHousehold().getApartmentNumber())
+				.donationCampaignId(donation.getDonationCampaign().getId())
+				.campaignName(donation.getDonationCampaign().getName())
+				.amount(donation.getAmount())
+				.donationDate(donation.getDonationDate())
+				.createdBy(donation.getCreatedBy())
+				.createdAt(donation.getCreatedAt())
+				.build();
+	}
+
+	private FeeCollectionResponse mapToFeeCollectionResponse(FeeCollection feeCollection) {
+		return FeeCollectionResponse.builder()
+				.id(feeCollection.getId())
+				.householdId(feeCollection.getHousehold().getId())
+				.householdCode(feeCollection.getHousehold().getHouseholdCode())
+				.apartmentNumber(feeCollection.getHousehold().getApartmentNumber())
+				.feeTypeId(feeCollection.getFeeType().getId())
+				.feeTypeName(feeCollection.getFeeType().getName())
+				.yearMonth(feeCollection.getYearMonth())
+				.amount(feeCollection.getAmount())
+				.isPaid(feeCollection.getIsPaid())
+				.paidDate(feeCollection.getPaidDate())
+				.paidBy(feeCollection.getPaidBy())
+				.collectedBy(feeCollection.getCollectedBy())
+				.createdBy(feeCollection.getCreatedBy())
+				.createdAt(feeCollection.getCreatedAt())
+				.build();
+	}
+
+	private PopulationChangeResponse mapToPopulationChangeResponse(PopulationChange populationChange) {
+		return PopulationChangeResponse.builder()
+				.id(populationChange.getId())
+				.residentId(populationChange.getResident().getId())
+				.residentName(populationChange.getResident().getFullName())
+				.householdId(populationChange.getHousehold().getId())
+				.householdCode(populationChange.getHousehold().getHouseholdCode())
+				.changeType(populationChange.getChangeType())
+				.startDate(populationChange.getStartDate())
+				.endDate(populationChange.getEndDate())
+				.reason(populationChange.getReason())
+				.destinationAddress(populationChange.getDestinationAddress())
+				.sourceAddress(populationChange.getSourceAddress())
+				.isApproved(populationChange.getIsApproved())
+				.createdAt(populationChange.getCreatedAt())
+				.build();
+	}
+}
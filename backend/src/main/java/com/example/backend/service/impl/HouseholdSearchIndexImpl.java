@@ -0,0 +1,393 @@
+package com.example.backend.service.impl;
+
+import com.example.backend.dto.projection.HouseholdSummaryView;
+import com.example.backend.dto.projection.ResidentNameView;
+import com.example.backend.dto.response.SearchIndexStatsResponse;
+import com.example.backend.repository.HouseholdRepository;
+import com.example.backend.repository.ResidentRepository;
+import com.example.backend.service.HouseholdSearchIndex;
+import com.example.backend.utils.TextNormalizer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * Trigram inverted index over households. Every indexed field is accent-folded and split
+ * into overlapping three-character keys. The households holding all of a keyword's trigrams
+ * are candidates; those with a field containing the keyword match, the same substring rule
+ * as the database search, and are ranked by how well the keyword matches their fields.
+ * Changes arrive from {@code SearchIndexEntityListener} after commit.
+ */
+@Service
+@Slf4j
+public class HouseholdSearchIndexImpl implements HouseholdSearchIndex {
+
+	private static final int LOAD_CHUNK_SIZE = 1000;
+
+	private final HouseholdRepository householdRepository;
+	private final ResidentRepository residentRepository;
+	private final boolean enabled;
+
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+	private Index index = new Index();
+	private boolean ready;
+	// Changes made while a rebuild is loading, replayed onto the new index before it is swapped in
+	private List<Consumer<Index>> pendingChanges;
+	private long lastRebuildMs;
+	private LocalDateTime lastRebuildAt;
+
+	public HouseholdSearchIndexImpl(HouseholdRepository householdRepository,
+									ResidentRepository residentRepository,
+									@Value("${searchIndex.enabled:true}") boolean enabled) {
+		this.householdRepository = householdRepository;
+		this.residentRepository = residentRepository;
+		this.enabled = enabled;
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void warmUp() {
+		if (enabled) {
+			rebuild();
+		}
+	}
+
+	@Override
+	public boolean isReady() {
+		lock.readLock().lock();
+		try {
+			return ready;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	@Override
+	public void rebuild() {
+		long startedAt = System.currentTimeMillis();
+		lock.writeLock().lock();
+		try {
+			pendingChanges = new ArrayList<>();
+		} finally {
+			lock.writeLock().unlock();
+		}
+
+		Index rebuilt = new Index();
+		try {
+			load(rebuilt);
+		} catch (RuntimeException e) {
+			lock.writeLock().lock();
+			try {
+				pendingChanges = null;
+			} finally {
+				lock.writeLock().unlock();
+			}
+			throw e;
+		}
+
+		lock.writeLock().lock();
+		try {
+			pendingChanges.forEach(change -> change.accept(rebuilt));
+			pendingChanges = null;
+			index = rebuilt;
+			ready = true;
+			lastRebuildMs = System.currentTimeMillis() - startedAt;
+			lastRebuildAt = LocalDateTime.now();
+		} finally {
+			lock.writeLock().unlock();
+		}
+		log.info("Household search index built: {} households, {} residents, {} trigrams in {} ms",
+				rebuilt.households.size(), rebuilt.residentHouseholds.size(), rebuilt.postings.size(), lastRebuildMs);
+	}
+
+	@Override
+	public SearchHits search(String keyword, int limit) {
+		String query = TextNormalizer.fold(keyword);
+		if (query == null || query.isEmpty() || limit <= 0) {
+			return new SearchHits(List.of(), 0);
+		}
+
+		lock.readLock().lock();
+		try {
+			Map<Integer, Double> scores = query.length() < 3 ? scanShortQuery(query) : matchTrigrams(query);
+
+			PriorityQueue<Map.Entry<Integer, Double>> best = new PriorityQueue<>(
+					Map.Entry.<Integer, Double>comparingByValue().thenComparing(Map.Entry.comparingByKey(Comparator.reverseOrder())));
+			for (Map.Entry<Integer, Double> entry : scores.entrySet()) {
+				best.offer(entry);
+				if (best.size() > limit) {
+					best.poll();
+				}
+			}
+
+			// The queue pops the weakest first, so collect in that order and reverse once
+			List<Integer> ids = new ArrayList<>(best.size());
+			while (!best.isEmpty()) {
+				ids.add(best.poll().getKey());
+			}
+			Collections.reverse(ids);
+			return new SearchHits(ids, scores.size());
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	@Override
+	public void onHouseholdSaved(Integer id, String householdCode, String apartmentNumber, String ownerName, String address) {
+		apply(index -> index.putHousehold(id, new String[]{
+				TextNormalizer.fold(householdCode), TextNormalizer.fold(apartmentNumber),
+				TextNormalizer.fold(ownerName), TextNormalizer.fold(address)}));
+	}
+
+	@Override
+	public void onHouseholdDeleted(Integer id) {
+		apply(index -> index.removeHousehold(id));
+	}
+
+	@Override
+	public void onResidentSaved(Integer id, Integer householdId, String fullName) {
+		apply(index -> index.putResident(id, householdId, TextNormalizer.fold(fullName)));
+	}
+
+	@Override
+	public void onResidentDeleted(Integer id) {
+		apply(index -> index.removeResident(id));
+	}
+
+	@Override
+	public SearchIndexStatsResponse getStats() {
+		lock.readLock().lock();
+		try {
+			long postingCount = index.postings.values().stream().mapToLong(Set::size).sum();
+			long textBytes = index.households.values().stream().mapToLong(Document::textBytes).sum();
+			// Rough JVM sizes: map entry + boxed key + set per trigram, hash set entry + boxed id per posting
+			long estimatedBytes = index.postings.size() * 120L + postingCount * 48L
+					+ index.households.size() * 200L + index.residentHouseholds.size() * 64L + textBytes;
+
+			return SearchIndexStatsResponse.builder()
+					.ready(ready)
+					.householdCount(index.households.size())
+					.residentCount(index.residentHouseholds.size())
+					.trigramCount(index.postings.size())
+					.postingCount(postingCount)
+					.estimatedMemoryBytes(estimatedBytes)
+					.lastRebuildMs(lastRebuildMs)
+					.lastRebuildAt(lastRebuildAt)
+					.build();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	private void apply(Consumer<Index> change) {
+		lock.writeLock().lock();
+		try {
+			change.accept(index);
+			if (pendingChanges != null) {
+				pendingChanges.add(change);
+			}
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	private void load(Index target) {
+		Integer cursor = 0;
+		List<HouseholdSummaryView> households;
+		while (!(households = householdRepository.findSummariesAfter(cursor, PageRequest.of(0, LOAD_CHUNK_SIZE))).isEmpty()) {
+			for (HouseholdSummaryView household : households) {
+				target.putHousehold(household.getId(), new String[]{
+						TextNormalizer.fold(household.getHouseholdCode()), TextNormalizer.fold(household.getApartmentNumber()),
+						TextNormalizer.fold(household.getOwnerName()), TextNormalizer.fold(household.getAddress())});
+			}
+			cursor = households.get(households.size() - 1).getId();
+		}
+
+		cursor = 0;
+		List<ResidentNameView> residents;
+		while (!(residents = residentRepository.findNamesAfter(cursor, PageRequest.of(0, LOAD_CHUNK_SIZE))).isEmpty()) {
+			for (ResidentNameView resident : residents) {
+				target.putResident(resident.getId(), resident.getHouseholdId(), TextNormalizer.fold(resident.getFullName()));
+			}
+			cursor = residents.get(residents.size() - 1).getId();
+		}
+	}
+
+	private Map<Integer, Double> matchTrigrams(String query) {
+		Set<Long> queryTrigrams = trigrams(query);
+		Map<Integer, Integer> overlap = new HashMap<>();
+		for (Long trigram : queryTrigrams) {
+			for (Integer householdId : index.postings.getOrDefault(trigram, Set.of())) {
+				overlap.merge(householdId, 1, Integer::sum);
+			}
+		}
+
+		// Holding every trigram is necessary for a substring match; the bonus confirms it and ranks it
+		Map<Integer, Double> scores = new HashMap<>();
+		overlap.forEach((householdId, shared) -> {
+			if (shared == queryTrigrams.size()) {
+				double bonus = index.households.get(householdId).matchBonus(query);
+				if (bonus > 0) {
+					scores.put(householdId, bonus);
+				}
+			}
+		});
+		return scores;
+	}
+
+	// Too short for trigrams: a linear pass over the folded fields, which are all in memory
+	private Map<Integer, Double> scanShortQuery(String query) {
+		Map<Integer, Double> scores = new HashMap<>();
+		for (Document document : index.households.values()) {
+			double bonus = document.matchBonus(query);
+			if (bonus > 0) {
+				scores.put(document.id, bonus);
+			}
+		}
+		return scores;
+	}
+
+	private static Set<Long> trigrams(String text) {
+		Set<Long> trigrams = new HashSet<>();
+		for (int i = 0; i + 3 <= text.length(); i++) {
+			trigrams.add(((long) text.charAt(i) << 32) | ((long) text.charAt(i + 1) << 16) | text.charAt(i + 2));
+		}
+		return trigrams;
+	}
+
+	private static final class Document {
+		final int id;
+		String[] fields;
+		final Map<Integer, String> residentNames = new HashMap<>();
+		Set<Long> trigrams = Set.of();
+
+		Document(int id) {
+			this.id = id;
+		}
+
+		void reindex() {
+			Set<Long> all = new HashSet<>();
+			for (String field : fields) {
+				if (field != null) {
+					all.addAll(trigrams(field));
+				}
+			}
+			residentNames.values().forEach(name -> all.addAll(trigrams(name)));
+			trigrams = all;
+		}
+
+		// Exact field > field prefix > word prefix > substring, counted on the best matching field
+		double matchBonus(String query) {
+			double best = 0;
+			List<String> texts = new ArrayList<>(residentNames.values());
+			for (String field : fields) {
+				if (field != null) {
+					texts.add(field);
+				}
+			}
+			for (String text : texts) {
+				if (text.equals(query)) {
+					return 3;
+				} else if (text.startsWith(query)) {
+					best = Math.max(best, 2);
+				} else if (text.contains(" " + query)) {
+					best = Math.max(best, 1.5);
+				} else if (text.contains(query)) {
+					best = Math.max(best, 1);
+				}
+			}
+			return best;
+		}
+
+		long textBytes() {
+			long bytes = 0;
+			for (String field : fields) {
+				bytes += field != null ? 40 + 2L * field.length() : 0;
+			}
+			for (String name : residentNames.values()) {
+				bytes += 40 + 2L * name.length();
+			}
+			return bytes;
+		}
+	}
+
+	private static final class Index {
+		final Map<Integer, Document> households = new HashMap<>();
+		final Map<Integer, Integer> residentHouseholds = new HashMap<>();
+		final Map<Long, Set<Integer>> postings = new HashMap<>();
+
+		void putHousehold(Integer id, String[] fields) {
+			Document document = households.computeIfAbsent(id, Document::new);
+			unpost(document);
+			document.fields = fields;
+			document.reindex();
+			post(document);
+		}
+
+		void removeHousehold(Integer id) {
+			Document document = households.remove(id);
+			if (document != null) {
+				unpost(document);
+				residentHouseholds.values().removeIf(householdId -> householdId.equals(id));
+			}
+		}
+
+		void putResident(Integer id, Integer householdId, String name) {
+			removeResident(id);
+			Document document = households.get(householdId);
+			if (document == null || name == null) {
+				return;
+			}
+			residentHouseholds.put(id, householdId);
+			unpost(document);
+			document.residentNames.put(id, name);
+			document.reindex();
+			post(document);
+		}
+
+		void removeResident(Integer id) {
+			Integer householdId = residentHouseholds.remove(id);
+			Document document = householdId != null ? households.get(householdId) : null;
+			if (document != null) {
+				unpost(document);
+				document.residentNames.remove(id);
+				document.reindex();
+				post(document);
+			}
+		}
+
+		private void post(Document document) {
+			for (Long trigram : document.trigrams) {
+				postings.computeIfAbsent(trigram, key -> new HashSet<>()).add(document.id);
+			}
+		}
+
+		private void unpost(Document document) {
+			for (Long trigram : document.trigrams) {
+				Set<Integer> ids = postings.get(trigram);
+				if (ids != null) {
+					ids.remove(document.id);
+					if (ids.isEmpty()) {
+						postings.remove(trigram);
+					}
+				}
+			}
+		}
+	}
+}
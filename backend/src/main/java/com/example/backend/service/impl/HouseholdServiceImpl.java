@@ -1,5 +1,7 @@
 package com.example.backend.service.impl;
 
+import com.example.backend.dto.projection.HouseholdInclude;
+import com.example.backend.dto.projection.HouseholdSummaryView;
 import com.example.backend.dto.request.HouseholdRequest;
 import com.example.backend.dto.response.*;
 import com.example.backend.exception.BadRequestException;
@@ -9,18 +11,22 @@ import com.example.backend.model.enums.ChangeType;
 import com.example.backend.model.enums.Gender;
 import com.example.backend.model.enums.RelationshipType;
 import com.example.backend.repository.HouseholdRepository;
-import com.example.backend.repository.ResidentRepository;
-import com.example.backend.repository.DonationRepository;
-import com.example.backend.repository.FeeCollectionRepository;
-import com.example.backend.repository.PopulationChangeRepository;
 import com.example.backend.service.HistoryRecordService;
+import com.example.backend.service.HouseholdBatchLoader;
+import com.example.backend.service.HouseholdSearchIndex;
 import com.example.backend.service.HouseholdService;
+import com.example.backend.utils.TextNormalizer;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.OffsetScrollPosition;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
@@ -28,22 +34,43 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class HouseholdServiceImpl implements HouseholdService {
 
+	private static final int MAX_SEARCH_PAGE_SIZE = 100;
+	private static final int FIND_CHUNK_SIZE = 1000;
+
 	private final HouseholdRepository householdRepository;
-	private final ResidentRepository residentRepository;
-	private final DonationRepository donationRepository;
-	private final FeeCollectionRepository feeCollectionRepository;
-	private final PopulationChangeRepository populationChangeRepository;
+	private final HouseholdBatchLoader householdBatchLoader;
 	private final HistoryRecordService historyRecordService;
 	private final ObjectMapper objectMapper;
+	private final HouseholdSearchIndex householdSearchIndex;
+	private final int maxSortedCandidates;
+
+	public HouseholdServiceImpl(HouseholdRepository householdRepository,
+								HouseholdBatchLoader householdBatchLoader,
+								HistoryRecordService historyRecordService,
+								ObjectMapper objectMapper,
+								HouseholdSearchIndex householdSearchIndex,
+								@Value("${searchIndex.maxSortedCandidates:1000}") int maxSortedCandidates) {
+		this.householdRepository = householdRepository;
+		this.householdBatchLoader = householdBatchLoader;
+		this.historyRecordService = historyRecordService;
+		this.objectMapper = objectMapper;
+		this.householdSearchIndex = householdSearchIndex;
+		this.maxSortedCandidates = maxSortedCandidates;
+	}
 
 	@Override
 	@Transactional
@@ -62,6 +89,7 @@ public class HouseholdServiceImpl implements HouseholdService {
 				.address(request.getAddress())
 				.ownerName(request.getOwnerName())
 				.phoneNumber(request.getPhoneNumber())
+				.contactEmail(request.getContactEmail())
 				.registrationDate(LocalDateTime.now())
 				.createdBy(getCurrentUsername())
 				.build();
@@ -76,24 +104,54 @@ public class HouseholdServiceImpl implements HouseholdService {
 
 	@Override
 	public HouseholdResponse getHouseholdById(Integer id) {
-		return householdRepository.findById(id)
-				.map(this::mapToHouseholdResponse)
+		return getHouseholdById(id, HouseholdInclude.ALL);
+	}
+
+	@Override
+	public HouseholdResponse getHouseholdById(Integer id, Set<HouseholdInclude> includes) {
+		return householdRepository.findProjectedById(id)
+				.map(household -> withAssociations(List.of(mapToHouseholdResponse(household)), includes).get(0))
 				.orElseThrow(() -> new ResourceNotFoundException("Household not found with id: " + id));
 	}
 
 	@Override
 	public HouseholdResponse getHouseholdByCode(String householdCode) {
-		Household household = householdRepository.findByHouseholdCode(householdCode);
-		if (household == null) {
-			throw new ResourceNotFoundException("Household not found with code: " + householdCode);
+		return getHouseholdByCode(householdCode, HouseholdInclude.ALL);
+	}
+
+	@Override
+	public HouseholdResponse getHouseholdByCode(String householdCode, Set<HouseholdInclude> includes) {
+		return householdRepository.findProjectedByHouseholdCode(householdCode)
+				.map(household -> withAssociations(List.of(mapToHouseholdResponse(household)), includes).get(0))
+				.orElseThrow(() -> new ResourceNotFoundException("Household not found with code: " + householdCode));
+	}
+
+	/**
+	 * Loads many households in one query, without associations
+	 */
+	@Override
+	public Map<Integer, HouseholdResponse> getHouseholdsByIds(Collection<Integer> ids) {
+		if (ids.isEmpty()) {
+			return Collections.emptyMap();
 		}
-		return mapToHouseholdResponse(household);
+
+		return householdRepository.findProjectedByIdIn(ids).stream()
+				.map(this::mapToHouseholdResponse)
+				.collect(Collectors.toMap(HouseholdResponse::getId, household -> household));
 	}
 
 	@Override
 	public Page<HouseholdResponse> getAllHouseholds(Pageable pageable) {
-		return householdRepository.findAll(pageable)
-				.map(this::mapToHouseholdResponse);
+		return getAllHouseholds(pageable, HouseholdInclude.ALL);
+	}
+
+	@Override
+	public Page<HouseholdResponse> getAllHouseholds(Pageable pageable, Set<HouseholdInclude> includes) {
+		Page<HouseholdSummaryView> households = householdRepository.findAllProjectedBy(pageable);
+		List<HouseholdResponse> responses = households.getContent().stream()
+				.map(this::mapToHouseholdResponse)
+				.collect(Collectors.toList());
+		return new PageImpl<>(withAssociations(responses, includes), households.getPageable(), households.getTotalElements());
 	}
 
 	@Override
@@ -117,6 +175,7 @@ public class HouseholdServiceImpl implements HouseholdService {
 		household.setAddress(request.getAddress());
 		household.setOwnerName(request.getOwnerName());
 		household.setPhoneNumber(request.getPhoneNumber());
+		household.setContactEmail(request.getContactEmail());
 
 		household = householdRepository.save(household);
 
@@ -143,31 +202,7 @@ public class HouseholdServiceImpl implements HouseholdService {
 	}
 
 	private HouseholdResponse mapToHouseholdResponse(Household household) {
-		// Fetch related data
-		List<Resident> residents = household.getResidents() != null ? household.getResidents() : residentRepository.findByHouseholdId(household.getId());
-		List<Donation> donations = donationRepository.findByHouseholdId(household.getId());
-		List<FeeCollection> feeCollections = feeCollectionRepository.findByHouseholdId(household.getId());
-		List<PopulationChange> populationChanges = populationChangeRepository.findByHouseholdId(household.getId());
-
-		// Map to response DTOs
-		List<ResidentResponse> residentResponses = residents.stream()
-				.map(this::mapToResidentResponse)
-				.collect(Collectors.toList());
-
-		List<DonationResponse> donationResponses = donations.stream()
-				.map(this::mapToDonationResponse)
-				.collect(Collectors.toList());
-
-		List<FeeCollectionResponse> feeCollectionResponses = feeCollections.stream()
-				.map(this::mapToFeeCollectionResponse)
-				.collect(Collectors.toList());
-
-		List<PopulationChangeResponse> populationChangeResponses = populationChanges.stream()
-				.map(this::mapToPopulationChangeResponse)
-				.collect(Collectors.toList());
-
-		// Build HouseholdResponse
-		return HouseholdResponse.builder()
+		HouseholdResponse response = HouseholdResponse.builder()
 				.id(household.getId())
 				.householdCode(household.getHouseholdCode())
 				.apartmentNumber(household.getApartmentNumber())
@@ -175,81 +210,68 @@ public class HouseholdServiceImpl implements HouseholdService {
 				.address(household.getAddress())
 				.ownerName(household.getOwnerName())
 				.phoneNumber(household.getPhoneNumber())
+				.contactEmail(household.getContactEmail())
 				.registrationDate(household.getRegistrationDate())
-				.residentCount(residents.size())
 				.createdAt(household.getCreatedAt())
-				.members(residentResponses)
-				.donations(donationResponses)
-				.feeCollections(feeCollectionResponses)
-				.populationChanges(populationChangeResponses)
 				.build();
+		return withAssociations(List.of(response), HouseholdInclude.ALL).get(0);
 	}
 
-	private ResidentResponse mapToResidentResponse(Resident resident) {
-		return ResidentResponse.builder()
-				.id(resident.getId())
-				.householdId(resident.getHousehold().getId())
-				.householdCode(resident.getHousehold().getHouseholdCode())
-				.fullName(resident.getFullName())
-				.dateOfBirth(resident.getDateOfBirth())
-				.gender(resident.getGender())
-				.idCardNumber(resident.getIdCardNumber())
-				.relationshipWithOwner(resident.getRelationshipWithOwner())
-				.isOwner(resident.getIsOwner())
-				.createdAt(resident.getCreatedAt())
+	private HouseholdResponse mapToHouseholdResponse(HouseholdSummaryView household) {
+		return HouseholdResponse.builder()
+				.id(household.getId())
+				.householdCode(household.getHouseholdCode())
+				.apartmentNumber(household.getApartmentNumber())
+				.areaM2(household.getAreaM2())
+				.address(household.getAddress())
+				.ownerName(household.getOwnerName())
+				.phoneNumber(household.getPhoneNumber())
+				.contactEmail(household.getContactEmail())
+				.registrationDate(household.getRegistrationDate())
+				.createdAt(household.getCreatedAt())
 				.build();
 	}
 
-	private DonationResponse mapToDonationResponse(Donation donation) {
-		return DonationResponse.builder()
-				.id(donation.getId())
-				.householdId(donation.getHousehold().getId())
-				.householdCode(donation.getHousehold().getHouseholdCode())
-				.apartmentNumber(donation.getHousehold().getApartmentNumber())
-				.donationCampaignId(donation.getDonationCampaign().getId())
-				.campaignName(donation.getDonationCampaign().getName())
-				.amount(donation.getAmount())
-				.donationDate(donation.getDonationDate())
-				.createdBy(donation.getCreatedBy())
-				.createdAt(donation.getCreatedAt())
-				.build();
-	}
+	/**
+	 * Fills the requested associations of the given responses, one query per association for the whole batch.
+	 * Associations that are not requested stay null and are left out of the JSON.
+	 */
+	private List<HouseholdResponse> withAssociations(List<HouseholdResponse> responses, Set<HouseholdInclude> includes) {
+		if (responses.isEmpty()) {
+			return responses;
+		}
 
-	private FeeCollectionResponse mapToFeeCollectionResponse(FeeCollection feeCollection) {
-		return FeeCollectionResponse.builder()
-				.id(feeCollection.getId())
-				.householdId(feeCollection.getHousehold().getId())
-				.householdCode(feeCollection.getHousehold().getHouseholdCode())
-				.apartmentNumber(feeCollection.getHousehold().getApartmentNumber())
-				.feeTypeId(feeCollection.getFeeType().getId())
-				.feeTypeName(feeCollection.getFeeType().getName())
-				.yearMonth(feeCollection.getYearMonth())
-				.amount(feeCollection.getAmount())
-				.isPaid(feeCollection.getIsPaid())
-				.paidDate(feeCollection.getPaidDate())
-				.paidBy(feeCollection.getPaidBy())
-				.collectedBy(feeCollection.getCollectedBy())
-				.createdBy(feeCollection.getCreatedBy())
-				.createdAt(feeCollection.getCreatedAt())
-				.build();
-	}
+		List<Integer> householdIds = responses.stream()
+				.map(HouseholdResponse::getId)
+				.collect(Collectors.toList());
 
-	private PopulationChangeResponse mapToPopulationChangeResponse(PopulationChange populationChange) {
-		return PopulationChangeResponse.builder()
-				.id(populationChange.getId())
-				.residentId(populationChange.getResident().getId())
-				.residentName(populationChange.getResident().getFullName())
-				.householdId(populationChange.getHousehold().getId())
-				.householdCode(populationChange.getHousehold().getHouseholdCode())
-				.changeType(populationChange.getChangeType())
-				.startDate(populationChange.getStartDate())
-				.endDate(populationChange.getEndDate())
-				.reason(populationChange.getReason())
-				.destinationAddress(populationChange.getDestinationAddress())
-				.sourceAddress(populationChange.getSourceAddress())
-				.isApproved(populationChange.getIsApproved())
-				.createdAt(populationChange.getCreatedAt())
-				.build();
+		if (includes.contains(HouseholdInclude.MEMBERS)) {
+			Map<Integer, List<ResidentResponse>> residents = householdBatchLoader.loadResidents(householdIds);
+			responses.forEach(response -> {
+				response.setMembers(residents.getOrDefault(response.getId(), new ArrayList<>()));
+				response.setResidentCount(response.getMembers().size());
+			});
+		} else {
+			Map<Integer, Integer> residentCounts = householdBatchLoader.countResidents(householdIds);
+			responses.forEach(response -> response.setResidentCount(residentCounts.getOrDefault(response.getId(), 0)));
+		}
+
+		if (includes.contains(HouseholdInclude.DONATIONS)) {
+			Map<Integer, List<DonationResponse>> donations = householdBatchLoader.loadDonations(householdIds);
+			responses.forEach(response -> response.setDonations(donations.getOrDefault(response.getId(), new ArrayList<>())));
+		}
+
+		if (includes.contains(HouseholdInclude.FEE_COLLECTIONS)) {
+			Map<Integer, List<FeeCollectionResponse>> feeCollections = householdBatchLoader.loadFeeCollections(householdIds);
+			responses.forEach(response -> response.setFeeCollections(feeCollections.getOrDefault(response.getId(), new ArrayList<>())));
+		}
+
+		if (includes.contains(HouseholdInclude.POPULATION_CHANGES)) {
+			Map<Integer, List<PopulationChangeResponse>> populationChanges = householdBatchLoader.loadPopulationChanges(householdIds);
+			responses.forEach(response -> response.setPopulationChanges(populationChanges.getOrDefault(response.getId(), new ArrayList<>())));
+		}
+
+		return responses;
 	}
 
 	private String getCurrentUsername() {
@@ -262,14 +284,128 @@ public class HouseholdServiceImpl implements HouseholdService {
 
 	@Override
 	public List<HouseholdResponse> searchHouseholds(String keyword) {
+		return searchHouseholds(keyword, HouseholdInclude.ALL);
+	}
+
+	/**
+	 * Returns every household with a field or resident name containing the keyword. The index
+	 * ranks them by relevance; the database fallback, used while the index warms up, applies
+	 * the same substring rule. Use the paged variant to bound the result.
+	 */
+	@Override
+	public List<HouseholdResponse> searchHouseholds(String keyword, Set<HouseholdInclude> includes) {
 		if (keyword == null || keyword.trim().isEmpty()) {
 			return new ArrayList<>();
 		}
 
-		List<Household> households = householdRepository.searchHouseholds(keyword.trim());
+		List<HouseholdSummaryView> households;
+		if (householdSearchIndex.isReady()) {
+			households = findRanked(householdSearchIndex.search(keyword, Integer.MAX_VALUE).ids());
+		} else {
+			// Index still loading, fall back to the database
+			households = householdRepository.searchHouseholds(TextNormalizer.escapeLike(keyword.trim()));
+		}
+
+		List<HouseholdResponse> responses = households.stream()
+				.map(this::mapToHouseholdResponse)
+				.collect(Collectors.toList());
+
+		return withAssociations(responses, includes);
+	}
+
+	/**
+	 * Pages through the search results, loading and mapping only the requested page. Unsorted
+	 * requests keep the index's relevance order; an explicit sort is applied by the database
+	 * over the best {@code searchIndex.maxSortedCandidates} matches, which bounds the IN list
+	 * and the total reported for sorted pages.
+	 */
+	@Override
+	public Page<HouseholdResponse> searchHouseholds(String keyword, Pageable pageable, Set<HouseholdInclude> includes) {
+		if (keyword == null || keyword.trim().isEmpty()) {
+			return Page.empty(pageable);
+		}
+
+		Pageable limited = PageRequest.of(pageable.getPageNumber(), Math.min(pageable.getPageSize(), MAX_SEARCH_PAGE_SIZE), pageable.getSort());
+		Page<HouseholdSummaryView> households;
+		if (!householdSearchIndex.isReady()) {
+			households = householdRepository.searchHouseholds(TextNormalizer.escapeLike(keyword.trim()), limited);
+		} else if (limited.getSort().isSorted()) {
+			List<Integer> ids = householdSearchIndex.search(keyword, maxSortedCandidates).ids();
+			households = ids.isEmpty() ? Page.empty(limited) : householdRepository.findProjectedByIdIn(ids, limited);
+		} else {
+			int offset = (int) limited.getOffset();
+			HouseholdSearchIndex.SearchHits hits = householdSearchIndex.search(keyword, offset + limited.getPageSize());
+			List<Integer> pageIds = offset < hits.ids().size() ? hits.ids().subList(offset, hits.ids().size()) : List.of();
+			households = new PageImpl<>(findRanked(pageIds), limited, hits.totalMatches());
+		}
+
+		List<HouseholdResponse> responses = households.getContent().stream()
+				.map(this::mapToHouseholdResponse)
+				.collect(Collectors.toList());
+		return new PageImpl<>(withAssociations(responses, includes), limited, households.getTotalElements());
+	}
+
+	/**
+	 * Scrolls through the search results in relevance order. Ranked results have no stable key,
+	 * so positions are offsets into the ranking rather than keysets.
+	 */
+	@Override
+	public Window<HouseholdResponse> searchHouseholds(String keyword, ScrollPosition position, int size) {
+		OffsetScrollPosition offsetPosition = position instanceof OffsetScrollPosition offset ? offset : ScrollPosition.offset();
+		if (keyword == null || keyword.trim().isEmpty()) {
+			return Window.from(List.of(), offsetPosition.positionFunction());
+		}
+
+		int limit = Math.max(1, Math.min(size, MAX_SEARCH_PAGE_SIZE));
+		int start = offsetPosition.isInitial() ? 0 : Math.toIntExact(offsetPosition.getOffset() + 1);
+
+		List<HouseholdSummaryView> households;
+		boolean hasNext;
+		if (householdSearchIndex.isReady()) {
+			HouseholdSearchIndex.SearchHits hits = householdSearchIndex.search(keyword, start + limit);
+			households = start < hits.ids().size() ? findRanked(hits.ids().subList(start, hits.ids().size())) : List.of();
+			hasNext = start + limit < hits.totalMatches();
+		} else {
+			// Only while the index warms up: offsets need not be page aligned, so read up to the end of the window
+			Page<HouseholdSummaryView> page = householdRepository.searchHouseholds(TextNormalizer.escapeLike(keyword.trim()), PageRequest.of(0, start + limit));
+			households = start < page.getNumberOfElements() ? page.getContent().subList(start, page.getNumberOfElements()) : List.of();
+			hasNext = page.getTotalElements() > start + limit;
+		}
 
-		return households.stream()
+		List<HouseholdResponse> responses = households.stream()
 				.map(this::mapToHouseholdResponse)
 				.collect(Collectors.toList());
+		return Window.from(responses, offsetPosition.positionFunction(), hasNext);
+	}
+
+	@Override
+	public SearchIndexStatsResponse getSearchIndexStats() {
+		return householdSearchIndex.getStats();
+	}
+
+	@Override
+	public SearchIndexStatsResponse rebuildSearchIndex() {
+		householdSearchIndex.rebuild();
+		return householdSearchIndex.getStats();
+	}
+
+	/**
+	 * Loads the households with the given IDs, keeping the order of the IDs. Long ID lists
+	 * are loaded in chunks to keep each IN list bounded.
+	 */
+	private List<HouseholdSummaryView> findRanked(List<Integer> ids) {
+		if (ids.isEmpty()) {
+			return new ArrayList<>();
+		}
+
+		Map<Integer, HouseholdSummaryView> byId = new HashMap<>(ids.size() * 2);
+		for (int from = 0; from < ids.size(); from += FIND_CHUNK_SIZE) {
+			householdRepository.findProjectedByIdIn(ids.subList(from, Math.min(from + FIND_CHUNK_SIZE, ids.size())))
+					.forEach(household -> byId.put(household.getId(), household));
+		}
+		return ids.stream()
+				.map(byId::get)
+				.filter(Objects::nonNull)
+				.collect(Collectors.toList());
 	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,151 @@
+package com.example.backend.service.impl;
+
+import com.example.backend.dto.projection.PaidStateView;
+import com.example.backend.dto.request.BatchPaymentRequest;
+import com.example.backend.dto.response.BatchPaymentResponse;
+import com.example.backend.dto.response.BatchPaymentResponse.BillKind;
+import com.example.backend.dto.response.BatchPaymentResponse.Outcome;
+import com.example.backend.dto.response.BatchPaymentResponse.Status;
+import com.example.backend.exception.BadRequestException;
+import com.example.backend.repository.FeeCollectionRepository;
+import com.example.backend.repository.UtilityBillRepository;
+import com.example.backend.repository.VehicleFeeRepository;
+import com.example.backend.service.HistoryRecordService;
+import com.example.backend.service.PaymentService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PaymentServiceImpl implements PaymentService {
+
+	private static final int MAX_BATCH_SIZE = 1000;
+
+	private final FeeCollectionRepository feeCollectionRepository;
+	private final UtilityBillRepository utilityBillRepository;
+	private final VehicleFeeRepository vehicleFeeRepository;
+	private final HistoryRecordService historyRecordService;
+
+	@Override
+	@Transactional
+	public BatchPaymentResponse markAsPaid(BatchPaymentRequest request) {
+		Set<Integer> feeCollectionIds = distinct(request.getFeeCollectionIds());
+		Set<Integer> utilityBillIds = distinct(request.getUtilityBillIds());
+		Set<Integer> vehicleFeeIds = distinct(request.getVehicleFeeIds());
+
+		int total = feeCollectionIds.size() + utilityBillIds.size() + vehicleFeeIds.size();
+		if (total == 0) {
+			throw new BadRequestException("No bills to mark as paid");
+		}
+		if (total > MAX_BATCH_SIZE) {
+			throw new BadRequestException("At most " + MAX_BATCH_SIZE + " bills can be paid in one batch");
+		}
+
+		LocalDate paidDate = LocalDate.now();
+		String collectedBy = request.getCollectedBy() != null && !request.getCollectedBy().isBlank()
+				? request.getCollectedBy() : getCurrentUsername();
+
+		List<Outcome> results = new ArrayList<>(total);
+		List<Integer> paidFeeCollections = pay(BillKind.FEE_COLLECTION, feeCollectionIds, results,
+				feeCollectionRepository::findPaidStatesForUpdate,
+				ids -> feeCollectionRepository.markAllAsPaid(ids, paidDate, collectedBy));
+		List<Integer> paidUtilityBills = pay(BillKind.UTILITY_BILL, utilityBillIds, results,
+				utilityBillRepository::findPaidStatesForUpdate,
+				ids -> utilityBillRepository.markAllAsPaid(ids, paidDate, collectedBy));
+		List<Integer> paidVehicleFees = pay(BillKind.VEHICLE_FEE, vehicleFeeIds, results,
+				vehicleFeeRepository::findPaidStatesForUpdate,
+				ids -> vehicleFeeRepository.markAllAsPaid(ids, paidDate, collectedBy));
+
+		// Record history
+		historyRecordService.recordActions("FeeCollection", paidFeeCollections, "UPDATE");
+		historyRecordService.recordActions("UtilityBill", paidUtilityBills, "UPDATE");
+		historyRecordService.recordActions("VehicleFee", paidVehicleFees, "UPDATE");
+
+		int paidCount = paidFeeCollections.size() + paidUtilityBills.size() + paidVehicleFees.size();
+		log.info("Batch payment by {}: {} of {} bills marked as paid", collectedBy, paidCount, total);
+
+		return BatchPaymentResponse.builder()
+				.paidDate(paidDate)
+				.collectedBy(collectedBy)
+				.paidCount(paidCount)
+				.alreadyPaidCount(count(results, Status.ALREADY_PAID))
+				.notFoundCount(count(results, Status.NOT_FOUND))
+				.results(results)
+				.build();
+	}
+
+	/**
+	 * Locks the requested rows of one bill kind, updates the unpaid ones with a single statement
+	 * and adds an outcome for every requested id.
+	 *
+	 * @return IDs that were marked as paid
+	 */
+	private List<Integer> pay(BillKind kind, Set<Integer> ids, List<Outcome> results,
+							  Function<Collection<Integer>, List<PaidStateView>> lockStates,
+							  Function<Collection<Integer>, Integer> markAllAsPaid) {
+		if (ids.isEmpty()) {
+			return List.of();
+		}
+
+		Map<Integer, Boolean> states = lockStates.apply(ids).stream()
+				.collect(Collectors.toMap(PaidStateView::getId, state -> Boolean.TRUE.equals(state.getIsPaid())));
+
+		List<Integer> unpaid = new ArrayList<>();
+		for (Integer id : ids) {
+			Boolean paid = states.get(id);
+			if (paid == null) {
+				results.add(new Outcome(kind, id, Status.NOT_FOUND));
+			} else if (paid) {
+				results.add(new Outcome(kind, id, Status.ALREADY_PAID));
+			} else {
+				results.add(new Outcome(kind, id, Status.PAID));
+				unpaid.add(id);
+			}
+		}
+
+		if (!unpaid.isEmpty()) {
+			// The rows are locked, so every unpaid one is still unpaid here
+			int updated = markAllAsPaid.apply(unpaid);
+			if (updated != unpaid.size()) {
+				throw new IllegalStateException("Expected to mark " + unpaid.size() + " " + kind + " rows as paid, updated " + updated);
+			}
+		}
+		return unpaid;
+	}
+
+	private static Set<Integer> distinct(List<Integer> ids) {
+		if (ids == null) {
+			return Set.of();
+		}
+		Set<Integer> distinct = new LinkedHashSet<>(ids);
+		distinct.remove(null);
+		return distinct;
+	}
+
+	private static int count(List<Outcome> results, Status status) {
+		return (int) results.stream().filter(result -> result.getStatus() == status).count();
+	}
+
+	private String getCurrentUsername() {
+		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+		if (authentication == null || !authentication.isAuthenticated()) {
+			return "system";
+		}
+		return authentication.getName();
+	}
+}
@@ -0,0 +1,184 @@
+package com.example.backend.service.impl;
+
+import com.example.backend.dto.response.ReferenceDataCacheStatsResponse;
+import com.example.backend.model.FeeType;
+import com.example.backend.model.VehicleFeeConfig;
+import com.example.backend.model.enums.TicketType;
+import com.example.backend.model.enums.VehicleType;
+import com.example.backend.repository.FeeTypeRepository;
+import com.example.backend.repository.VehicleFeeConfigRepository;
+import com.example.backend.service.ReferenceDataCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Holds each table as an immutable snapshot behind a volatile reference, so reads take no lock.
+ * A missing snapshot is reloaded in full by the first reader, in a new read-only transaction:
+ * the reader's own transaction may hold a REPEATABLE READ snapshot older than the write that
+ * invalidated the cache. Invalidation waits for the commit, so the reload sees the write.
+ */
+@Service
+@Slf4j
+public class ReferenceDataCacheImpl implements ReferenceDataCache {
+
+	private final FeeTypeRepository feeTypeRepository;
+	private final VehicleFeeConfigRepository vehicleFeeConfigRepository;
+	private final TransactionTemplate reloadTransaction;
+
+	private volatile FeeTypeSnapshot feeTypes;
+	private volatile VehicleFeeSnapshot vehicleFees;
+
+	private final LongAdder feeTypeHits = new LongAdder();
+	private final LongAdder feeTypeMisses = new LongAdder();
+	private final LongAdder vehicleFeeHits = new LongAdder();
+	private final LongAdder vehicleFeeMisses = new LongAdder();
+
+	public ReferenceDataCacheImpl(FeeTypeRepository feeTypeRepository,
+								  VehicleFeeConfigRepository vehicleFeeConfigRepository,
+								  PlatformTransactionManager transactionManager) {
+		this.feeTypeRepository = feeTypeRepository;
+		this.vehicleFeeConfigRepository = vehicleFeeConfigRepository;
+		this.reloadTransaction = new TransactionTemplate(transactionManager);
+		this.reloadTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+		this.reloadTransaction.setReadOnly(true);
+	}
+
+	@Override
+	public Optional<FeeType> getFeeType(Integer id) {
+		return Optional.ofNullable(feeTypes().byId().get(id));
+	}
+
+	@Override
+	public List<FeeType> getRequiredFeeTypes() {
+		return feeTypes().required();
+	}
+
+	@Override
+	public Optional<Double> getVehicleFeePrice(VehicleType vehicleType, TicketType ticketType) {
+		Map<TicketType, Double> prices = vehicleFees().prices().get(vehicleType);
+		return Optional.ofNullable(prices != null ? prices.get(ticketType) : null);
+	}
+
+	@Override
+	public void invalidateFeeTypes() {
+		afterCommit(() -> {
+			// Waits for a load in progress, which may have read the table before the commit
+			synchronized (this) {
+				feeTypes = null;
+			}
+		});
+	}
+
+	@Override
+	public void invalidateVehicleFeeConfigs() {
+		afterCommit(() -> {
+			synchronized (this) {
+				vehicleFees = null;
+			}
+		});
+	}
+
+	@Override
+	public ReferenceDataCacheStatsResponse getStats() {
+		FeeTypeSnapshot currentFeeTypes = feeTypes;
+		VehicleFeeSnapshot currentVehicleFees = vehicleFees;
+
+		return ReferenceDataCacheStatsResponse.builder()
+				.feeTypeCount(currentFeeTypes != null ? currentFeeTypes.byId().size() : 0)
+				.feeTypeHits(feeTypeHits.sum())
+				.feeTypeMisses(feeTypeMisses.sum())
+				.feeTypesLoadedAt(currentFeeTypes != null ? currentFeeTypes.loadedAt() : null)
+				.vehicleFeeConfigCount(currentVehicleFees != null ? currentVehicleFees.size() : 0)
+				.vehicleFeeConfigHits(vehicleFeeHits.sum())
+				.vehicleFeeConfigMisses(vehicleFeeMisses.sum())
+				.vehicleFeeConfigsLoadedAt(currentVehicleFees != null ? currentVehicleFees.loadedAt() : null)
+				.build();
+	}
+
+	private FeeTypeSnapshot feeTypes() {
+		FeeTypeSnapshot snapshot = feeTypes;
+		if (snapshot != null) {
+			feeTypeHits.increment();
+			return snapshot;
+		}
+
+		synchronized (this) {
+			if (feeTypes == null) {
+				feeTypeMisses.increment();
+				Map<Integer, FeeType> byId = new HashMap<>();
+				reloadTransaction.execute(status -> feeTypeRepository.findAll())
+						.forEach(feeType -> byId.put(feeType.getId(), feeType));
+				List<FeeType> required = byId.values().stream()
+						.filter(feeType -> Boolean.TRUE.equals(feeType.getIsRequired()))
+						.toList();
+				feeTypes = new FeeTypeSnapshot(Collections.unmodifiableMap(byId), required, LocalDateTime.now());
+				log.debug("Loaded {} fee types into the reference cache", byId.size());
+			} else {
+				feeTypeHits.increment();
+			}
+			return feeTypes;
+		}
+	}
+
+	private VehicleFeeSnapshot vehicleFees() {
+		VehicleFeeSnapshot snapshot = vehicleFees;
+		if (snapshot != null) {
+			vehicleFeeHits.increment();
+			return snapshot;
+		}
+
+		synchronized (this) {
+			if (vehicleFees == null) {
+				vehicleFeeMisses.increment();
+				List<VehicleFeeConfig> configs = reloadTransaction.execute(status -> vehicleFeeConfigRepository.findAll());
+				Map<VehicleType, Map<TicketType, Double>> prices = new EnumMap<>(VehicleType.class);
+				for (VehicleFeeConfig config : configs) {
+					if (config.getVehicleType() != null && config.getTicketType() != null) {
+						prices.computeIfAbsent(config.getVehicleType(), type -> new EnumMap<>(TicketType.class))
+								.put(config.getTicketType(), config.getPrice());
+					}
+				}
+				vehicleFees = new VehicleFeeSnapshot(prices, configs.size(), LocalDateTime.now());
+				log.debug("Loaded {} vehicle fee configs into the reference cache", configs.size());
+			} else {
+				vehicleFeeHits.increment();
+			}
+			return vehicleFees;
+		}
+	}
+
+	private static void afterCommit(Runnable action) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			action.run();
+			return;
+		}
+
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				action.run();
+			}
+		});
+	}
+
+	private record FeeTypeSnapshot(Map<Integer, FeeType> byId, List<FeeType> required, LocalDateTime loadedAt) {
+	}
+
+	// Never modified once published
+	private record VehicleFeeSnapshot(Map<VehicleType, Map<TicketType, Double>> prices, int size, LocalDateTime loadedAt) {
+	}
+}
@@ -11,18 +11,25 @@ import com.example.backend.repository.HouseholdRepository;
 import com.example.backend.repository.ResidentRepository;
 import com.example.backend.service.HistoryRecordService;
 import com.example.backend.service.ResidentService;
+import com.example.backend.utils.TextNormalizer;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -30,6 +37,8 @@ import java.util.stream.Collectors;
 @Slf4j
 public class ResidentServiceImpl implements ResidentService {
 
+	private static final int MAX_SEARCH_PAGE_SIZE = 100;
+
 	private final ResidentRepository residentRepository;
 	private final HouseholdRepository householdRepository;
 	private final HistoryRecordService historyRecordService;
@@ -186,14 +195,40 @@ public class ResidentServiceImpl implements ResidentService {
 	}
 
 	@Override
-	public List<ResidentResponse> searchResidents(String keyword) {
-		// Implementation will depend on additional repository methods for search
-		// For simplicity, let's assume we have all residents and filter in memory
-		return residentRepository.findAll().stream()
-				.filter(r -> r.getFullName().contains(keyword) ||
-						(r.getIdCardNumber() != null && r.getIdCardNumber().contains(keyword)))
-				.map(this::mapToResidentResponse)
-				.collect(Collectors.toList());
+	public Page<ResidentResponse> searchResidents(String keyword, Pageable pageable) {
+		String folded = TextNormalizer.fold(keyword);
+		if (folded == null || folded.isEmpty()) {
+			return Page.empty(pageable);
+		}
+
+		Pageable limited = PageRequest.of(pageable.getPageNumber(), Math.min(pageable.getPageSize(), MAX_SEARCH_PAGE_SIZE));
+		Page<Integer> ids = residentRepository.searchIds(TextNormalizer.escapeLike(folded), TextNormalizer.escapeLike(keyword.trim()), limited);
+		Map<Integer, Resident> residents = residentRepository.findWithHouseholdByIdIn(ids.getContent()).stream()
+				.collect(Collectors.toMap(Resident::getId, Function.identity()));
+		return ids.map(id -> mapToResidentResponse(residents.get(id)));
+	}
+
+	// Fills the search column and tokens of residents created before they existed
+	@EventListener(ApplicationReadyEvent.class)
+	public void backfillSearchNames() {
+		int updated = 0;
+		// Paged by id: a name that folds to nothing gets no tokens and would otherwise match again
+		Integer cursor = 0;
+		List<Resident> residents;
+		while (!(residents = residentRepository.findWithoutSearchTokensAfter(cursor, PageRequest.of(0, 500))).isEmpty()) {
+			cursor = residents.get(residents.size() - 1).getId();
+			residents.forEach(resident -> {
+				String searchName = TextNormalizer.fold(resident.getFullName());
+				resident.setSearchName(searchName);
+				// These residents have no tokens yet, so the detached collection is replaced rather than loaded
+				resident.setSearchTokens(new HashSet<>(TextNormalizer.wordSuffixes(searchName)));
+			});
+			residentRepository.saveAll(residents);
+			updated += residents.size();
+		}
+		if (updated > 0) {
+			log.info("Backfilled search names of {} residents", updated);
+		}
 	}
 
 	private ResidentResponse mapToResidentResponse(Resident resident) {
@@ -1,51 +1,50 @@
 package com.example.backend.service.impl;
 
+import com.example.backend.dto.projection.CampaignAmountView;
+import com.example.backend.dto.projection.DonationTotalView;
+import com.example.backend.dto.projection.HouseholdDonationCountView;
 import com.example.backend.dto.stats.DonationCampaignStats;
 import com.example.backend.dto.stats.DonationTotalStats;
 import com.example.backend.dto.stats.HouseholdDonationStats;
-import com.example.backend.model.Donation;
 import com.example.backend.model.DonationCampaign;
-import com.example.backend.model.Household;
 import com.example.backend.repository.DonationCampaignRepository;
+import com.example.backend.repository.DonationMonthlyRollupRepository;
 import com.example.backend.repository.DonationRepository;
-import com.example.backend.repository.HouseholdRepository;
 import com.example.backend.service.StatsService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
 import java.time.YearMonth;
-import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
+/**
+ * Donation statistics. Amounts and counts are read from the monthly rollup, so their cost
+ * depends on the number of months rather than the number of donations; only the partial
+ * months at the edges of a date range are aggregated from the donations table.
+ */
 @Service
 @RequiredArgsConstructor
 public class StatsServiceImpl implements StatsService {
 
 	private final DonationRepository donationRepository;
-	private final HouseholdRepository householdRepository;
+	private final DonationMonthlyRollupRepository donationMonthlyRollupRepository;
 	private final DonationCampaignRepository donationCampaignRepository;
 
 	@Override
 	public HouseholdDonationStats getHouseholdDonationStatsByMonth(int month, int year) {
-		// Get all households
-		List<Household> allHouseholds = householdRepository.findAll();
-		int totalHouseholds = allHouseholds.size();
-
-		// Find donations for the specified month/year
 		LocalDate startDate = YearMonth.of(year, month).atDay(1);
 		LocalDate endDate = YearMonth.of(year, month).atEndOfMonth();
 
-		// Find households that have made donations in this period
-		List<Integer> paidHouseholdIds = donationRepository.findByDonationDateBetween(startDate, endDate)
-				.stream()
-				.map(donation -> donation.getHousehold().getId())
-				.distinct()
-				.collect(Collectors.toList());
+		// Distinct households do not add up across campaigns, so this one is counted from the donations index
+		HouseholdDonationCountView counts = donationRepository.countDonatingHouseholds(startDate, endDate);
+		int totalHouseholds = counts.getTotalHouseholds().intValue();
+		int paidHouseholds = counts.getPaidHouseholds().intValue();
 
-		int paidHouseholds = paidHouseholdIds.size();
 		int unpaidHouseholds = totalHouseholds - paidHouseholds;
 		double paidPercentage = totalHouseholds > 0 ? (double) paidHouseholds / totalHouseholds * 100 : 0;
 
@@ -61,92 +60,73 @@ public class StatsServiceImpl implements StatsService {
 
 	@Override
 	public DonationTotalStats getDonationTotalByMonth(int month, int year) {
-		LocalDate startDate = YearMonth.of(year, month).atDay(1);
-		LocalDate endDate = YearMonth.of(year, month).atEndOfMonth();
-
-		List<Donation> donations = donationRepository.findByDonationDateBetween(startDate, endDate);
-
-		if (donations.isEmpty()) {
-			return DonationTotalStats.builder()
-					.month(month)
-					.year(year)
-					.totalAmount(0)
-					.averageAmount(0)
-					.highestDonation(0)
-					.lowestDonation(0)
-					.donationCount(0)
-					.build();
-		}
-
-		double totalAmount = donations.stream()
-				.mapToDouble(Donation::getAmount)
-				.sum();
-
-		double highestDonation = donations.stream()
-				.mapToDouble(Donation::getAmount)
-				.max()
-				.orElse(0);
-
-		double lowestDonation = donations.stream()
-				.mapToDouble(Donation::getAmount)
-				.min()
-				.orElse(0);
-
-		int donationCount = donations.size();
-		double averageAmount = totalAmount / donationCount;
+		DonationTotalView totals = donationMonthlyRollupRepository.getMonthTotals(year, month);
+		int donationCount = totals.getDonationCount().intValue();
+		double totalAmount = totals.getTotalAmount();
 
 		return DonationTotalStats.builder()
 				.month(month)
 				.year(year)
 				.totalAmount(totalAmount)
-				.averageAmount(averageAmount)
-				.highestDonation(highestDonation)
-				.lowestDonation(lowestDonation)
+				.averageAmount(donationCount > 0 ? totalAmount / donationCount : 0)
+				.highestDonation(totals.getHighestDonation())
+				.lowestDonation(totals.getLowestDonation())
 				.donationCount(donationCount)
 				.build();
 	}
 
 	@Override
 	public List<DonationCampaignStats> getDonationStatsByType(LocalDate startDate, LocalDate endDate) {
-		// Get all campaigns
-		List<DonationCampaign> allCampaigns = donationCampaignRepository.findAll();
-
-		// Get donations in the date range
-		List<Donation> donations = donationRepository.findByDonationDateBetween(startDate, endDate);
+		Map<Integer, double[]> totalsByCampaign = new HashMap<>();
+
+		// Whole months come from the rollup, the partial months at either end from the donations table
+		YearMonth firstFullMonth = startDate.getDayOfMonth() == 1 ? YearMonth.from(startDate) : YearMonth.from(startDate).plusMonths(1);
+		YearMonth lastFullMonth = endDate.equals(YearMonth.from(endDate).atEndOfMonth()) ? YearMonth.from(endDate) : YearMonth.from(endDate).minusMonths(1);
+
+		if (firstFullMonth.isAfter(lastFullMonth)) {
+			addTotals(totalsByCampaign, donationRepository.sumByCampaignBetween(startDate, endDate));
+		} else {
+			addTotals(totalsByCampaign, donationMonthlyRollupRepository.sumByCampaignBetween(monthKey(firstFullMonth), monthKey(lastFullMonth)));
+			if (startDate.isBefore(firstFullMonth.atDay(1))) {
+				addTotals(totalsByCampaign, donationRepository.sumByCampaignBetween(startDate, firstFullMonth.atDay(1).minusDays(1)));
+			}
+			if (endDate.isAfter(lastFullMonth.atEndOfMonth())) {
+				addTotals(totalsByCampaign, donationRepository.sumByCampaignBetween(lastFullMonth.plusMonths(1).atDay(1), endDate));
+			}
+		}
 
-		// Calculate total amount of all donations in the period
-		double totalDonationsAmount = donations.stream()
-				.mapToDouble(Donation::getAmount)
+		double totalDonationsAmount = totalsByCampaign.values().stream()
+				.mapToDouble(totals -> totals[0])
 				.sum();
 
-		// Group donations by campaign
-		Map<Integer, List<Donation>> donationsByCampaign = donations.stream()
-				.collect(Collectors.groupingBy(d -> d.getDonationCampaign().getId()));
-
-		List<DonationCampaignStats> statsList = new ArrayList<>();
-
-		for (DonationCampaign campaign : allCampaigns) {
-			List<Donation> campaignDonations = donationsByCampaign.getOrDefault(campaign.getId(), new ArrayList<>());
-
-			double campaignTotal = campaignDonations.stream()
-					.mapToDouble(Donation::getAmount)
-					.sum();
-
-			double percentage = totalDonationsAmount > 0 ? (campaignTotal / totalDonationsAmount) * 100 : 0;
+		// Every campaign is listed, including those without donations in the period
+		return donationCampaignRepository.findAll(Sort.by("id")).stream()
+				.map(campaign -> toCampaignStats(campaign, totalsByCampaign.getOrDefault(campaign.getId(), new double[2]), totalDonationsAmount))
+				.collect(Collectors.toList());
+	}
 
-			DonationCampaignStats stats = DonationCampaignStats.builder()
-					.campaignId(campaign.getId())
-					.campaignName(campaign.getName())
-					.totalAmount(campaignTotal)
-					.donationCount(campaignDonations.size())
-					.startDate(campaign.getStartDate())
-					.endDate(campaign.getEndDate())
-					.percentage(percentage)
-					.build();
+	private static DonationCampaignStats toCampaignStats(DonationCampaign campaign, double[] totals, double totalDonationsAmount) {
+		return DonationCampaignStats.builder()
+				.campaignId(campaign.getId())
+				.campaignName(campaign.getName())
+				.totalAmount(totals[0])
+				.donationCount((int) totals[1])
+				.startDate(campaign.getStartDate())
+				.endDate(campaign.getEndDate())
+				.percentage(totalDonationsAmount > 0 ? (totals[0] / totalDonationsAmount) * 100 : 0)
+				.build();
+	}
 
-			statsList.add(stats);
+	// Accumulates {amount, count} per campaign
+	private static void addTotals(Map<Integer, double[]> totalsByCampaign, List<CampaignAmountView> rows) {
+		for (CampaignAmountView row : rows) {
+			double[] totals = totalsByCampaign.computeIfAbsent(row.getCampaignId(), id -> new double[2]);
+			totals[0] += row.getTotalAmount();
+			totals[1] += row.getDonationCount();
 		}
+	}
 
-		return statsList;
+	private static int monthKey(YearMonth month) {
+		return month.getYear() * 100 + month.getMonthValue();
 	}
-}
\ No newline at end of file
+}
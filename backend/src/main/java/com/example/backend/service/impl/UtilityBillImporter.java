@@ -0,0 +1,346 @@
+package com.example.backend.service.impl;
+
+import com.example.backend.dto.projection.HouseholdCodeView;
+import com.example.backend.dto.projection.UtilityBillKeyView;
+import com.example.backend.dto.response.UtilityBillImportResponse;
+import com.example.backend.dto.response.UtilityBillImportResponse.RowError;
+import com.example.backend.exception.BadRequestException;
+import com.example.backend.model.Household;
+import com.example.backend.model.UtilityBill;
+import com.example.backend.model.enums.UtilityType;
+import com.example.backend.repository.HouseholdRepository;
+import com.example.backend.repository.UtilityBillBatchRepository;
+import com.example.backend.repository.UtilityBillRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Imports the utility company's monthly CSV file. The file is read line by line and handled
+ * in chunks: household codes resolve through a map loaded once per import, duplicates are
+ * checked with one key query per chunk, and each chunk is inserted with INSERT IGNORE in its
+ * own transaction, so bills written concurrently are skipped rather than duplicated. Rows that
+ * cannot be imported are reported with their line number instead of failing the whole file.
+ * <p>
+ * Expected header (case-insensitive, any order): {@code household_code,type,amount} and
+ * optionally {@code month_year}, which defaults to the month given with the upload.
+ */
+@Component
+@Slf4j
+public class UtilityBillImporter {
+
+    private static final DateTimeFormatter MONTH_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM");
+
+    private final HouseholdRepository householdRepository;
+    private final UtilityBillRepository utilityBillRepository;
+    private final UtilityBillBatchRepository utilityBillBatchRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final int maxReportedErrors;
+
+    public UtilityBillImporter(HouseholdRepository householdRepository,
+                               UtilityBillRepository utilityBillRepository,
+                               UtilityBillBatchRepository utilityBillBatchRepository,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${utilityImport.chunkSize:500}") int chunkSize,
+                               @Value("${utilityImport.maxReportedErrors:1000}") int maxReportedErrors) {
+        this.householdRepository = householdRepository;
+        this.utilityBillRepository = utilityBillRepository;
+        this.utilityBillBatchRepository = utilityBillBatchRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    public UtilityBillImportResponse importCsv(InputStream input, String defaultMonthYear, String createdBy) throws IOException {
+        if (defaultMonthYear != null && parseMonth(defaultMonthYear) == null) {
+            throw new BadRequestException("Month year must be in the format yyyy-MM: " + defaultMonthYear);
+        }
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        String headerLine = reader.readLine();
+        if (headerLine == null) {
+            throw new BadRequestException("The file is empty");
+        }
+        Columns columns = Columns.of(parseLine(stripBom(headerLine)));
+
+        // Codes are compared trimmed and upper-cased; codes that collide that way cannot be resolved
+        Map<String, Integer> householdIds = new HashMap<>();
+        Set<String> ambiguousCodes = new HashSet<>();
+        for (HouseholdCodeView view : householdRepository.findAllCodeViews()) {
+            String code = normalizeCode(view.getHouseholdCode());
+            if (householdIds.putIfAbsent(code, view.getId()) != null) {
+                ambiguousCodes.add(code);
+            }
+        }
+
+        Report report = new Report(maxReportedErrors);
+        // Keys seen earlier in this file, so a household listed twice is only billed once
+        Set<String> fileKeys = new HashSet<>();
+        List<ParsedRow> chunk = new ArrayList<>(chunkSize);
+        long lineNumber = 1;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            report.totalRows++;
+
+            ParsedRow row = parseRow(lineNumber, line, columns, defaultMonthYear, householdIds, ambiguousCodes, report);
+            if (row == null) {
+                continue;
+            }
+            if (!fileKeys.add(row.key())) {
+                report.error(lineNumber, row.householdCode(), "Duplicate " + row.type() + " bill for " + row.monthYear() + " in this file");
+                continue;
+            }
+
+            chunk.add(row);
+            if (chunk.size() >= chunkSize) {
+                importChunk(chunk, report, createdBy);
+                chunk.clear();
+            }
+        }
+        importChunk(chunk, report, createdBy);
+
+        log.info("Utility bill import finished: {} rows, {} imported, {} errors",
+                report.totalRows, report.importedCount, report.errorCount);
+        return UtilityBillImportResponse.builder()
+                .totalRows(report.totalRows)
+                .importedCount(report.importedCount)
+                .errorCount(report.errorCount)
+                .errorsTruncated(report.errorCount > report.errors.size())
+                .errors(report.errors)
+                .build();
+    }
+
+    private ParsedRow parseRow(long lineNumber, String line, Columns columns, String defaultMonthYear,
+                               Map<String, Integer> householdIds, Set<String> ambiguousCodes, Report report) {
+        List<String> fields = parseLine(line);
+        String householdCode = columns.get(fields, columns.householdCode);
+        if (householdCode == null || householdCode.isEmpty()) {
+            report.error(lineNumber, null, "Household code is required");
+            return null;
+        }
+
+        if (ambiguousCodes.contains(normalizeCode(householdCode))) {
+            report.error(lineNumber, householdCode, "Household code matches more than one household: " + householdCode);
+            return null;
+        }
+        Integer householdId = householdIds.get(normalizeCode(householdCode));
+        if (householdId == null) {
+            report.error(lineNumber, householdCode, "Household not found with code: " + householdCode);
+            return null;
+        }
+
+        UtilityType type;
+        try {
+            type = UtilityType.valueOf(columns.get(fields, columns.type).toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException | NullPointerException e) {
+            report.error(lineNumber, householdCode, "Unknown utility type: " + columns.get(fields, columns.type));
+            return null;
+        }
+
+        double amount;
+        try {
+            amount = Double.parseDouble(columns.get(fields, columns.amount));
+        } catch (NumberFormatException | NullPointerException e) {
+            report.error(lineNumber, householdCode, "Invalid amount: " + columns.get(fields, columns.amount));
+            return null;
+        }
+        if (!(amount > 0)) {
+            report.error(lineNumber, householdCode, "Amount must be positive");
+            return null;
+        }
+
+        String monthYear = columns.monthYear >= 0 ? columns.get(fields, columns.monthYear) : null;
+        if (monthYear == null || monthYear.isEmpty()) {
+            monthYear = defaultMonthYear;
+        }
+        if (monthYear == null) {
+            report.error(lineNumber, householdCode, "Month year is required");
+            return null;
+        }
+        if (parseMonth(monthYear) == null) {
+            report.error(lineNumber, householdCode, "Month year must be in the format yyyy-MM: " + monthYear);
+            return null;
+        }
+
+        return new ParsedRow(lineNumber, householdCode, householdId, type, monthYear, amount);
+    }
+
+    private void importChunk(List<ParsedRow> chunk, Report report, String createdBy) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+
+        Set<Integer> householdIds = chunk.stream().map(ParsedRow::householdId).collect(Collectors.toSet());
+        Set<String> monthYears = chunk.stream().map(ParsedRow::monthYear).collect(Collectors.toSet());
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Set<String> existing = utilityBillRepository.findKeysByHouseholdIdInAndMonthYearIn(householdIds, monthYears).stream()
+                    .map(UtilityBillImporter::key)
+                    .collect(Collectors.toSet());
+
+            List<ParsedRow> rows = new ArrayList<>(chunk.size());
+            List<UtilityBill> bills = new ArrayList<>(chunk.size());
+            for (ParsedRow row : chunk) {
+                if (existing.contains(row.key())) {
+                    report.error(row.lineNumber(), row.householdCode(),
+                            "A " + row.type() + " bill for " + row.monthYear() + " already exists");
+                    continue;
+                }
+                rows.add(row);
+                bills.add(UtilityBill.builder()
+                        .household(Household.builder().id(row.householdId()).build())
+                        .monthYear(row.monthYear())
+                        .type(row.type())
+                        .amount(row.amount())
+                        .isPaid(false)
+                        .createdBy(createdBy)
+                        .build());
+            }
+
+            int inserted = utilityBillBatchRepository.batchInsert(bills);
+            report.importedCount += inserted;
+            if (inserted < bills.size()) {
+                reportSkipped(rows, householdIds, monthYears, report);
+            }
+        });
+    }
+
+    /**
+     * Reports the rows INSERT IGNORE skipped because another request wrote the same bill after
+     * the duplicate check. The transaction still reads from the snapshot taken by that check,
+     * so the keys it sees now are exactly the ones this chunk inserted.
+     */
+    private void reportSkipped(List<ParsedRow> rows, Set<Integer> householdIds, Set<String> monthYears, Report report) {
+        Set<String> inserted = utilityBillRepository.findKeysByHouseholdIdInAndMonthYearIn(householdIds, monthYears).stream()
+                .map(UtilityBillImporter::key)
+                .collect(Collectors.toSet());
+        for (ParsedRow row : rows) {
+            if (!inserted.contains(row.key())) {
+                report.error(row.lineNumber(), row.householdCode(),
+                        "A " + row.type() + " bill for " + row.monthYear() + " was created by another request during the import");
+            }
+        }
+    }
+
+    private static YearMonth parseMonth(String monthYear) {
+        try {
+            return YearMonth.parse(monthYear, MONTH_FORMAT);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    private static String key(UtilityBillKeyView view) {
+        return view.getHouseholdId() + "|" + view.getType() + "|" + view.getMonthYear();
+    }
+
+    private static String normalizeCode(String householdCode) {
+        return householdCode.trim().toUpperCase(Locale.ROOT);
+    }
+
+    private static String stripBom(String line) {
+        return line.startsWith("\uFEFF") ? line.substring(1) : line;
+    }
+
+    /**
+     * Splits one CSV line; fields may be quoted, with {@code ""} for a quote inside a quoted field.
+     */
+    private static List<String> parseLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString().trim());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString().trim());
+        return fields;
+    }
+
+    private record ParsedRow(long lineNumber, String householdCode, Integer householdId,
+                             UtilityType type, String monthYear, double amount) {
+        String key() {
+            return householdId + "|" + type + "|" + monthYear;
+        }
+    }
+
+    private record Columns(int householdCode, int type, int amount, int monthYear) {
+        static Columns of(List<String> header) {
+            Map<String, Integer> positions = new HashMap<>();
+            for (int i = 0; i < header.size(); i++) {
+                positions.put(header.get(i).toLowerCase(Locale.ROOT).replace("_", ""), i);
+            }
+
+            Integer householdCode = positions.get("householdcode");
+            Integer type = positions.get("type");
+            Integer amount = positions.get("amount");
+            if (householdCode == null || type == null || amount == null) {
+                throw new BadRequestException("The header must contain household_code, type and amount columns");
+            }
+            return new Columns(householdCode, type, amount, positions.getOrDefault("monthyear", -1));
+        }
+
+        String get(List<String> fields, int column) {
+            return column < fields.size() ? fields.get(column) : null;
+        }
+    }
+
+    private static class Report {
+        private final int maxErrors;
+        private final List<RowError> errors = new ArrayList<>();
+        private long totalRows;
+        private long importedCount;
+        private long errorCount;
+
+        Report(int maxErrors) {
+            this.maxErrors = maxErrors;
+        }
+
+        void error(long lineNumber, String householdCode, String message) {
+            errorCount++;
+            if (errors.size() < maxErrors) {
+                errors.add(new RowError(lineNumber, householdCode, message));
+            }
+        }
+    }
+}
@@ -1,7 +1,9 @@
 package com.example.backend.service.impl;
 
 import com.example.backend.dto.request.UtilityBillRequest;
+import com.example.backend.dto.response.UtilityBillImportResponse;
 import com.example.backend.dto.response.UtilityBillResponse;
+import com.example.backend.exception.BadRequestException;
 import com.example.backend.model.Household;
 import com.example.backend.model.UtilityBill;
 import com.example.backend.model.enums.UtilityType;
@@ -12,9 +14,13 @@ import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
@@ -23,6 +29,7 @@ import java.time.LocalDateTime;
 public class UtilityBillServiceImpl implements UtilityBillService {
     private final UtilityBillRepository utilityBillRepository;
     private final HouseholdRepository householdRepository;
+    private final UtilityBillImporter utilityBillImporter;
 
     @Override
     public Page<UtilityBillResponse> getUtilityBills(Pageable pageable) {
@@ -54,6 +61,7 @@ public class UtilityBillServiceImpl implements UtilityBillService {
     public UtilityBillResponse createUtilityBill(UtilityBillRequest request) {
         Household household = householdRepository.findById(request.getHouseholdId())
                 .orElseThrow(() -> new EntityNotFoundException("Household not found with id: " + request.getHouseholdId()));
+        ensureNoDuplicate(request);
 
         UtilityBill utilityBill = new UtilityBill();
         utilityBill.setHousehold(household);
@@ -74,6 +82,12 @@ public class UtilityBillServiceImpl implements UtilityBillService {
 
         Household household = householdRepository.findById(request.getHouseholdId())
                 .orElseThrow(() -> new EntityNotFoundException("Household not found with id: " + request.getHouseholdId()));
+        boolean keyChanged = !household.getId().equals(utilityBill.getHousehold().getId())
+                || request.getType() != utilityBill.getType()
+                || !request.getMonthYear().equals(utilityBill.getMonthYear());
+        if (keyChanged) {
+            ensureNoDuplicate(request);
+        }
 
         utilityBill.setHousehold(household);
         utilityBill.setMonthYear(request.getMonthYear());
@@ -104,6 +118,18 @@ public class UtilityBillServiceImpl implements UtilityBillService {
         return mapToResponse(utilityBillRepository.save(utilityBill));
     }
 
+    @Override
+    public UtilityBillImportResponse importUtilityBills(InputStream csv, String monthYear) throws IOException {
+        return utilityBillImporter.importCsv(csv, monthYear, getCurrentUsername());
+    }
+
+    // The unique key on (household, type, month) would reject it anyway; this gives a readable error
+    private void ensureNoDuplicate(UtilityBillRequest request) {
+        if (utilityBillRepository.existsByHouseholdIdAndTypeAndMonthYear(request.getHouseholdId(), request.getType(), request.getMonthYear())) {
+            throw new BadRequestException("A " + request.getType() + " bill for " + request.getMonthYear() + " already exists for this household");
+        }
+    }
+
     private UtilityBillResponse mapToResponse(UtilityBill utilityBill) {
         return UtilityBillResponse.builder()
                 .id(utilityBill.getId())
@@ -119,4 +145,12 @@ public class UtilityBillServiceImpl implements UtilityBillService {
                 .createdAt(utilityBill.getCreatedAt())
                 .build();
     }
-} 
\ No newline at end of file
+
+    private String getCurrentUsername() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()) {
+            return "system";
+        }
+        return authentication.getName();
+    }
+}
@@ -4,11 +4,10 @@ import com.example.backend.dto.request.VehicleFeeRequest;
 import com.example.backend.dto.response.VehicleFeeResponse;
 import com.example.backend.model.Vehicle;
 import com.example.backend.model.VehicleFee;
-import com.example.backend.model.VehicleFeeConfig;
 import com.example.backend.model.enums.TicketType;
 import com.example.backend.repository.VehicleFeeRepository;
 import com.example.backend.repository.VehicleRepository;
-import com.example.backend.repository.VehicleFeeConfigRepository;
+import com.example.backend.service.ReferenceDataCache;
 import com.example.backend.service.VehicleFeeService;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
@@ -25,7 +24,7 @@ import java.time.LocalDateTime;
 public class VehicleFeeServiceImpl implements VehicleFeeService {
     private final VehicleFeeRepository vehicleFeeRepository;
     private final VehicleRepository vehicleRepository;
-    private final VehicleFeeConfigRepository vehicleFeeConfigRepository;
+    private final ReferenceDataCache referenceDataCache;
 
     @Override
     public Page<VehicleFeeResponse> getVehicleFees(Pageable pageable) {
@@ -58,14 +57,14 @@ public class VehicleFeeServiceImpl implements VehicleFeeService {
         Vehicle vehicle = vehicleRepository.findById(request.getVehicleId())
                 .orElseThrow(() -> new EntityNotFoundException("Vehicle not found with id: " + request.getVehicleId()));
         TicketType ticketType = TicketType.valueOf(request.getTicketType());
-        VehicleFeeConfig config = vehicleFeeConfigRepository.findByVehicleTypeAndTicketType(vehicle.getType(), ticketType)
+        Double price = referenceDataCache.getVehicleFeePrice(vehicle.getType(), ticketType)
                 .orElseThrow(() -> new IllegalArgumentException("No fee config for this vehicle type and ticket type"));
         VehicleFee vehicleFee = new VehicleFee();
         vehicleFee.setVehicle(vehicle);
         vehicleFee.setMonthYear(request.getMonthYear());
         vehicleFee.setIsPaid(false);
         vehicleFee.setTicketType(ticketType);
-        vehicleFee.setAmount(config.getPrice());
+        vehicleFee.setAmount(price);
         if (ticketType == TicketType.MONTHLY) {
             String[] ym = request.getMonthYear().split("-");
             int year = Integer.parseInt(ym[0]);
@@ -124,12 +123,12 @@ public class VehicleFeeServiceImpl implements VehicleFeeService {
         Vehicle vehicle = vehicleRepository.findById(request.getVehicleId())
                 .orElseThrow(() -> new EntityNotFoundException("Vehicle not found with id: " + request.getVehicleId()));
         TicketType ticketType = TicketType.DAILY;
-        VehicleFeeConfig config = vehicleFeeConfigRepository.findByVehicleTypeAndTicketType(vehicle.getType(), ticketType)
+        Double price = referenceDataCache.getVehicleFeePrice(vehicle.getType(), ticketType)
                 .orElseThrow(() -> new IllegalArgumentException("No fee config for this vehicle type and ticket type"));
         VehicleFee vehicleFee = new VehicleFee();
         vehicleFee.setVehicle(vehicle);
         vehicleFee.setTicketType(ticketType);
-        vehicleFee.setAmount(config.getPrice());
+        vehicleFee.setAmount(price);
         if (request.getDay() == null) throw new IllegalArgumentException("Day is required for daily ticket");
         LocalDate day = LocalDate.parse(request.getDay());
         vehicleFee.setDay(day);
@@ -146,12 +145,12 @@ public class VehicleFeeServiceImpl implements VehicleFeeService {
         VehicleFee oldFee = vehicleFeeRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Vehicle fee not found with id: " + id));
         if (oldFee.getTicketType() != TicketType.MONTHLY) throw new IllegalArgumentException("Only monthly tickets can be renewed");
-        VehicleFeeConfig config = vehicleFeeConfigRepository.findByVehicleTypeAndTicketType(oldFee.getVehicle().getType(), TicketType.MONTHLY)
+        Double price = referenceDataCache.getVehicleFeePrice(oldFee.getVehicle().getType(), TicketType.MONTHLY)
                 .orElseThrow(() -> new IllegalArgumentException("No fee config for this vehicle type and ticket type"));
         VehicleFee newFee = new VehicleFee();
         newFee.setVehicle(oldFee.getVehicle());
         newFee.setTicketType(TicketType.MONTHLY);
-        newFee.setAmount(config.getPrice());
+        newFee.setAmount(price);
         String[] ym = oldFee.getMonthYear().split("-");
         int year = Integer.parseInt(ym[0]);
         int month = Integer.parseInt(ym[1]);
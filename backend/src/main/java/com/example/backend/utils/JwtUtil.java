@@ -6,10 +6,17 @@ import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Base64;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -17,12 +24,37 @@ import java.util.stream.Collectors;
 public class JwtUtil {
 
 	private final Key secretKey;
+	private final long expirationMs;
+	private final int verifiedCacheSize;
 
-	@Value("${jwt.expirationMs}")
-	private long expirationMs;
+	// JwtParser là immutable và thread-safe, chỉ cần tạo một lần
+	private final JwtParser jwtParser;
 
-	public JwtUtil(@Value("${jwt.signerKey}") String signerKey) {
+	// Cache token đã xác thực, key là SHA-256 của token, giữ tới khi token hết hạn
+	private final Map<String, VerifiedToken> verifiedTokens = new ConcurrentHashMap<>();
+
+	public JwtUtil(@Value("${jwt.signerKey}") String signerKey,
+				   @Value("${jwt.expirationMs}") long expirationMs,
+				   @Value("${jwt.verifiedCacheSize:10000}") int verifiedCacheSize) {
 		this.secretKey = Keys.hmacShaKeyFor(signerKey.getBytes());
+		this.expirationMs = expirationMs;
+		this.verifiedCacheSize = verifiedCacheSize;
+		this.jwtParser = Jwts.parserBuilder()
+				.setSigningKey(secretKey)
+				.build();
+	}
+
+	/**
+	 * Claims of a token whose signature and expiry have been verified.
+	 */
+	public record VerifiedToken(String username, Set<UserRole> roles, Instant expiresAt) {
+		public VerifiedToken {
+			roles = Set.copyOf(roles);
+		}
+
+		public boolean isExpired(Instant now) {
+			return expiresAt != null && !expiresAt.isAfter(now);
+		}
 	}
 
 	// 🔐 Tạo JWT token chứa username và các roles (enum)
@@ -40,6 +72,56 @@ public class JwtUtil {
 				.compact();
 	}
 
+	/**
+	 * Verifies the token once and returns its claims, or null if it is invalid or expired.
+	 * Verified tokens are cached by hash until they expire, so repeated requests with the
+	 * same token skip the HS512 check and the JSON parsing.
+	 */
+	public VerifiedToken verify(String token) {
+		if (token == null || token.isBlank()) {
+			return null;
+		}
+
+		Instant now = Instant.now();
+		String cacheKey = hash(token);
+		VerifiedToken cached = verifiedTokens.get(cacheKey);
+		if (cached != null) {
+			if (!cached.isExpired(now)) {
+				return cached;
+			}
+			verifiedTokens.remove(cacheKey);
+			return null;
+		}
+
+		VerifiedToken verified = parseAndVerify(token);
+		if (verified == null || verified.isExpired(now)) {
+			return null;
+		}
+
+		if (verifiedTokens.size() >= verifiedCacheSize) {
+			evictExpired(now);
+		}
+		if (verifiedTokens.size() < verifiedCacheSize) {
+			verifiedTokens.put(cacheKey, verified);
+		}
+		return verified;
+	}
+
+	/**
+	 * Verifies the token without consulting the cache.
+	 */
+	public VerifiedToken parseAndVerify(String token) {
+		try {
+			Claims claims = extractAllClaims(token);
+			return new VerifiedToken(
+					claims.getSubject(),
+					extractRoles(claims),
+					claims.getExpiration() != null ? claims.getExpiration().toInstant() : null);
+		} catch (JwtException | IllegalArgumentException e) {
+			return null;
+		}
+	}
+
 	// 📌 Trích xuất username từ token
 	public String extractUsername(String token) {
 		return extractClaim(token, Claims::getSubject);
@@ -47,9 +129,19 @@ public class JwtUtil {
 
 	// 📌 Trích xuất danh sách roles (dạng enum) từ token
 	public Set<UserRole> extractRoles(String token) {
-		Claims claims = extractAllClaims(token);
+		return extractRoles(extractAllClaims(token));
+	}
+
+	// ✅ Kiểm tra token có hợp lệ không
+	public boolean validateToken(String token) {
+		return verify(token) != null;
+	}
 
+	private Set<UserRole> extractRoles(Claims claims) {
 		List<?> rawRoles = claims.get("roles", List.class);
+		if (rawRoles == null) {
+			return Set.of();
+		}
 
 		return rawRoles.stream()
 				.filter(obj -> obj instanceof String)
@@ -65,24 +157,6 @@ public class JwtUtil {
 				.collect(Collectors.toSet());
 	}
 
-	// ✅ Kiểm tra token có hợp lệ không
-	public boolean validateToken(String token) {
-		try {
-			Jwts.parserBuilder()
-					.setSigningKey(secretKey)
-					.build()
-					.parseClaimsJws(token);
-			return !isTokenExpired(token);
-		} catch (JwtException | IllegalArgumentException e) {
-			return false;
-		}
-	}
-
-	// 🔐 Kiểm tra token có hết hạn không
-	private boolean isTokenExpired(String token) {
-		return extractExpiration(token).before(new Date());
-	}
-
 	// 📌 Trích xuất claim cụ thể
 	private <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
 		final Claims claims = extractAllClaims(token);
@@ -91,15 +165,20 @@ public class JwtUtil {
 
 	// 📌 Trích xuất tất cả claims
 	private Claims extractAllClaims(String token) {
-		return Jwts.parserBuilder()
-				.setSigningKey(secretKey)
-				.build()
-				.parseClaimsJws(token)
-				.getBody();
+		return jwtParser.parseClaimsJws(token).getBody();
+	}
+
+	// 🧹 Xoá các token đã hết hạn khỏi cache khi cache đầy
+	private void evictExpired(Instant now) {
+		verifiedTokens.values().removeIf(verified -> verified.isExpired(now));
 	}
 
-	// 📌 Trích xuất thời gian hết hạn
-	private Date extractExpiration(String token) {
-		return extractClaim(token, Claims::getExpiration);
+	private static String hash(String token) {
+		try {
+			byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+			return Base64.getEncoder().encodeToString(digest);
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 not available", e);
+		}
 	}
 }
@@ -0,0 +1,57 @@
+package com.example.backend.utils;
+
+import java.text.Normalizer;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Folds text for accent- and case-insensitive search: "Nguyễn Văn Đức" becomes "nguyen van duc".
+ */
+public final class TextNormalizer {
+
+	private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+	private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+	private TextNormalizer() {
+	}
+
+	public static String fold(String text) {
+		if (text == null) {
+			return null;
+		}
+		String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+		String folded = COMBINING_MARKS.matcher(decomposed).replaceAll("")
+				// đ/Đ is a separate letter, not a d with a combining mark
+				.replace('đ', 'd')
+				.replace('Đ', 'D')
+				.toLowerCase(Locale.ROOT);
+		return WHITESPACE.matcher(folded).replaceAll(" ").trim();
+	}
+
+	/**
+	 * Returns the folded text from the start of each of its words: "nguyen van duc" gives
+	 * "nguyen van duc", "van duc" and "duc".
+	 */
+	public static Set<String> wordSuffixes(String folded) {
+		Set<String> suffixes = new LinkedHashSet<>();
+		if (folded == null || folded.isEmpty()) {
+			return suffixes;
+		}
+		suffixes.add(folded);
+		for (int i = folded.indexOf(' '); i >= 0; i = folded.indexOf(' ', i + 1)) {
+			suffixes.add(folded.substring(i + 1));
+		}
+		return suffixes;
+	}
+
+	/**
+	 * Escapes the LIKE wildcards of user input so it matches literally.
+	 */
+	public static String escapeLike(String text) {
+		return text.replace("\\", "\\\\")
+				.replace("%", "\\%")
+				.replace("_", "\\_");
+	}
+}
@@ -0,0 +1,51 @@
+package com.example.backend.utils;
+
+import com.example.backend.exception.BadRequestException;
+import org.springframework.data.domain.ScrollPosition;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.Map;
+
+/**
+ * Opaque continuation token for listings ordered by (timestamp DESC, id DESC).
+ * The token is the URL-safe Base64 form of the last row's timestamp and id.
+ */
+public record TimestampCursor(LocalDateTime timestamp, Integer id) {
+
+	private static final String SEPARATOR = "|";
+
+	public String encode() {
+		String raw = timestamp + SEPARATOR + id;
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Decodes a token produced by {@link #encode()}; a null or blank token means the first page.
+	 */
+	public static TimestampCursor decode(String cursor) {
+		if (cursor == null || cursor.isBlank()) {
+			return null;
+		}
+		try {
+			String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+			int separator = raw.lastIndexOf(SEPARATOR);
+			return new TimestampCursor(
+					LocalDateTime.parse(raw.substring(0, separator)),
+					Integer.valueOf(raw.substring(separator + 1)));
+		} catch (RuntimeException e) {
+			throw new BadRequestException("Invalid cursor");
+		}
+	}
+
+	/**
+	 * Scroll position continuing after the given cursor, or the start when it is null.
+	 */
+	public static ScrollPosition toScrollPosition(TimestampCursor cursor) {
+		if (cursor == null) {
+			return ScrollPosition.keyset();
+		}
+		return ScrollPosition.forward(Map.<String, Object>of("timestamp", cursor.timestamp(), "id", cursor.id()));
+	}
+}
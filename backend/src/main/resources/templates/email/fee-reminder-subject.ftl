@@ -0,0 +1 @@
+Payment reminder for apartment ${household.apartmentNumber} (${yearMonth})
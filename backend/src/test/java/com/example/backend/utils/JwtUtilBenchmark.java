@@ -0,0 +1,84 @@
+package com.example.backend.utils;
+
+import com.example.backend.model.enums.UserRole;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.security.Key;
+import java.util.Date;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request cost of authenticating a bearer token.
+ * {@code legacyFilterPath} replays what the filter used to do (three parses, each with a new parser);
+ * {@code parseAndVerify} is a single uncached verification and {@code verifyCached} the warm-cache path.
+ * Run {@link #main} from the IDE, or {@code org.openjdk.jmh.Main JwtUtilBenchmark} on the test classpath after {@code mvn test-compile}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtUtilBenchmark {
+
+	private static final String SIGNER_KEY = "benchmark-signer-key-benchmark-signer-key-benchmark-signer-key-0123456789";
+
+	private JwtUtil jwtUtil;
+	private Key secretKey;
+	private String token;
+
+	@Setup
+	public void setUp() {
+		jwtUtil = new JwtUtil(SIGNER_KEY, 3_600_000L, 10_000);
+		secretKey = Keys.hmacShaKeyFor(SIGNER_KEY.getBytes());
+		token = jwtUtil.generateToken("admin", Set.of(UserRole.ADMIN, UserRole.ACCOUNTANT));
+	}
+
+	@Benchmark
+	public Object legacyFilterPath() {
+		String username = legacyParse().getSubject();
+		legacyParse();
+		boolean expired = legacyParse().getExpiration().before(new Date());
+		return expired ? null : username;
+	}
+
+	@Benchmark
+	public Object parseAndVerify() {
+		return jwtUtil.parseAndVerify(token);
+	}
+
+	@Benchmark
+	public Object verifyCached() {
+		return jwtUtil.verify(token);
+	}
+
+	private Claims legacyParse() {
+		return Jwts.parserBuilder()
+				.setSigningKey(secretKey)
+				.build()
+				.parseClaimsJws(token)
+				.getBody();
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder()
+				.include(JwtUtilBenchmark.class.getSimpleName())
+				.build()).run();
+	}
+}
@@ -31,12 +31,18 @@ export const historyService = {
   getById: (id: number) =>
     api.get<ApiResponse<HistoryRecord>>(`/history/${id}`),
   
-  getByEntity: (entityType: string, entityId: number) =>
-    api.get<ApiResponse<HistoryRecord[]>>(`/history/entity/${entityType}/${entityId}`),
+  getByEntity: (entityType: string, entityId: number, page = 0, size = 20) =>
+    api.get<ApiResponse<PaginatedResponse<HistoryRecord>>>(`/history/entity/${entityType}/${entityId}`, {
+      params: { page, size }
+    }),
   
-  getByEntityType: (entityType: string) =>
-    api.get<ApiResponse<HistoryRecord[]>>(`/history/entity-type/${entityType}`),
+  getByEntityType: (entityType: string, page = 0, size = 20) =>
+    api.get<ApiResponse<PaginatedResponse<HistoryRecord>>>(`/history/entity-type/${entityType}`, {
+      params: { page, size }
+    }),
   
-  getByActionType: (actionType: string) =>
-    api.get<ApiResponse<HistoryRecord[]>>(`/history/action-type/${actionType}`),
+  getByActionType: (actionType: string, page = 0, size = 20) =>
+    api.get<ApiResponse<PaginatedResponse<HistoryRecord>>>(`/history/action-type/${actionType}`, {
+      params: { page, size }
+    }),
 }; 
\ No newline at end of file